@@ -0,0 +1,56 @@
+#!/usr/bin/env python3
+"""
+Compares two JMH JSON result files (for example two releases) as Markdown.
+
+    python3 benchmarks/compare.py benchmarks/results/movies-api-1.0.0.json new.json
+
+Rows are matched on benchmark name and parameters. The change column is oriented so
+that positive always means faster: higher throughput or lower time per operation.
+Changes smaller than the combined 99.9% confidence intervals are marked "~".
+"""
+
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = {}
+        for entry in json.load(f):
+            params = ",".join(f"{k}={v}" for k, v in sorted((entry.get("params") or {}).items()))
+            name = entry["benchmark"].rsplit(".", 2)
+            key = (f"{name[-2]}.{name[-1]}", params)
+            metric = entry["primaryMetric"]
+            error = metric.get("scoreError")
+            results[key] = (entry["mode"], metric["score"], 0.0 if error in (None, "NaN") else float(error),
+                            metric["scoreUnit"])
+        return results
+
+
+def main(old_path, new_path):
+    old, new = load(old_path), load(new_path)
+    print(f"| Benchmark | Params | {old_path} | {new_path} | Unit | Change |")
+    print("|---|---|---:|---:|---|---:|")
+    for key in sorted(old.keys() | new.keys()):
+        name, params = key
+        if key not in old or key not in new:
+            only = old.get(key) or new.get(key)
+            side = "old only" if key in old else "new only"
+            print(f"| {name} | {params} | {'%.3f' % only[1] if key in old else ''} "
+                  f"| {'%.3f' % only[1] if key in new else ''} | {only[3]} | {side} |")
+            continue
+        mode, before, before_error, unit = old[key]
+        _, after, after_error, _ = new[key]
+        faster = after > before if mode == "thrpt" else after < before
+        ratio = max(before, after) / min(before, after) if min(before, after) > 0 else float("inf")
+        change = f"{'+' if faster else '-'}{(ratio - 1) * 100:.1f}%" if ratio > 1 else "0.0%"
+        if abs(after - before) <= before_error + after_error:
+            change = "~ " + change
+        print(f"| {name} | {params} | {before:.3f} ± {before_error:.3f} | {after:.3f} ± {after_error:.3f} "
+              f"| {unit} | {change} |")
+
+
+if __name__ == "__main__":
+    if len(sys.argv) != 3:
+        raise SystemExit(__doc__)
+    main(sys.argv[1], sys.argv[2])
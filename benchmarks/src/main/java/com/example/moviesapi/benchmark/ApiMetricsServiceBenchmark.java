@@ -0,0 +1,67 @@
+package com.example.moviesapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.moviesapi.metrics.ApiMetricsService;
+
+/**
+ * Per-request metrics recording, single-threaded and from four request threads.
+ * Endpoints are request URIs with ids, as MetricsInterceptor reports them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiMetricsServiceBenchmark {
+
+    private static final int ENDPOINTS = 1024;
+
+    private ApiMetricsService metrics;
+    private String[] endpoints;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 1) & (ENDPOINTS - 1);
+            return next;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        metrics = new ApiMetricsService();
+        endpoints = new String[ENDPOINTS];
+        String[] resources = {"/api/movies/", "/api/actors/", "/api/genres/", "/api/movies/search?title="};
+        for (int i = 0; i < ENDPOINTS; i++) {
+            endpoints[i] = resources[i % resources.length] + (i / resources.length);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordApiCall(Cursor cursor) {
+        metrics.recordApiCall(endpoints[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordApiCallContended(Cursor cursor) {
+        metrics.recordApiCall(endpoints[cursor.advance()]);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.moviesapi.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.moviesapi.loadtest.Vocabulary;
+import com.example.moviesapi.model.Actor;
+import com.example.moviesapi.model.Genre;
+import com.example.moviesapi.model.Movie;
+import com.example.moviesapi.repository.MovieRepository;
+
+/**
+ * Deterministic synthetic catalog for the benchmarks: the same seed always builds
+ * the same movies, so results stay comparable across runs and releases.
+ */
+final class Catalog {
+
+    static final long SEED = 42;
+
+    private Catalog() {
+    }
+
+    static List<Genre> genres() {
+        List<Genre> genres = new ArrayList<>(Vocabulary.GENRES.length);
+        for (int i = 0; i < Vocabulary.GENRES.length; i++) {
+            genres.add(new Genre((long) i + 1, Vocabulary.GENRES[i]));
+        }
+        return genres;
+    }
+
+    static List<Actor> actors(int count, Random random) {
+        List<Actor> actors = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            actors.add(new Actor((long) i, "Actor " + i, LocalDate.ofEpochDay(-15_000 + random.nextInt(20_000))));
+        }
+        return actors;
+    }
+
+    /**
+     * Movies with 1-4 genres and 2-8 actors each; one actor per 20 movies (at least 1000).
+     */
+    static List<Movie> movies(int count) {
+        Random random = new Random(SEED);
+        List<Genre> genres = genres();
+        List<Actor> actors = actors(Math.max(1000, count / 20), random);
+        List<Movie> movies = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Movie movie = new Movie((long) i, "Movie " + i, 1950 + random.nextInt(75), 80 + random.nextInt(100));
+            for (int g = 1 + random.nextInt(4); g > 0; g--) {
+                movie.getGenres().add(genres.get(random.nextInt(genres.size())));
+            }
+            for (int a = 2 + random.nextInt(7); a > 0; a--) {
+                movie.getActors().add(actors.get(random.nextInt(actors.size())));
+            }
+            movies.add(movie);
+        }
+        return movies;
+    }
+
+    /**
+     * A MovieRepository answering findAll and findById from memory; every other
+     * method throws.
+     */
+    static MovieRepository repository(List<Movie> movies) {
+        Map<Long, Movie> byId = movies.stream().collect(Collectors.toMap(Movie::getId, Function.identity()));
+        return (MovieRepository) Proxy.newProxyInstance(MovieRepository.class.getClassLoader(),
+            new Class<?>[] {MovieRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "findAll" -> {
+                    if (args == null || args.length == 0) {
+                        yield movies;
+                    }
+                    throw new UnsupportedOperationException(method.toString());
+                }
+                case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "InMemoryMovieRepository";
+                default -> throw new UnsupportedOperationException(method.toString());
+            });
+    }
+}
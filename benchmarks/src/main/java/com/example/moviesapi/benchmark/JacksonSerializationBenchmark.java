@@ -0,0 +1,65 @@
+package com.example.moviesapi.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.moviesapi.dto.MovieResponse;
+import com.example.moviesapi.model.Movie;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Response body serialization of a page of movies, as GET /api/movies/paged
+ * (entities with genres and actors) and GET /api/movies/summaries (DTOs) return it.
+ * The ObjectMapper is built with Spring Boot's defaults.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Movie> moviePage;
+    private Page<MovieResponse> summaryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Movie> movies = Catalog.movies(pageSize);
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        moviePage = new PageImpl<>(movies, pageable, 10_000);
+        summaryPage = new PageImpl<>(movies.stream().map(MovieResponse::fromEntity).toList(), pageable, 10_000);
+    }
+
+    @Benchmark
+    public byte[] moviePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(moviePage);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.moviesapi.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.moviesapi.converter.LocalDateAttributeConverter;
+
+/**
+ * Actor birth date conversion in both directions, once per row read or written.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateAttributeConverterBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private final LocalDateAttributeConverter converter = new LocalDateAttributeConverter();
+    private LocalDate[] dates;
+    private Long[] columns;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(Catalog.SEED);
+        dates = new LocalDate[VALUES];
+        columns = new Long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            dates[i] = LocalDate.ofEpochDay(-15_000 + random.nextInt(20_000));
+            columns[i] = dates[i].toEpochDay();
+        }
+    }
+
+    @Benchmark
+    public Long toDatabaseColumn() {
+        next = (next + 1) & (VALUES - 1);
+        return converter.convertToDatabaseColumn(dates[next]);
+    }
+
+    @Benchmark
+    public LocalDate toEntityAttribute() {
+        next = (next + 1) & (VALUES - 1);
+        return converter.convertToEntityAttribute(columns[next]);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.moviesapi.benchmark;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.example.moviesapi.controller.ActorController;
+import com.example.moviesapi.controller.GenreController;
+import com.example.moviesapi.controller.MovieController;
+import com.example.moviesapi.controller.RecommendationController;
+import com.example.moviesapi.metrics.ApiMetricsService;
+import com.example.moviesapi.metrics.MetricsInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * MetricsInterceptor.preHandle for the handler methods of the main controllers,
+ * single-threaded and from four request threads. Path variables take ids from
+ * 1..100k, as the load driver's requests do. Run with -prof gc: the
+ * gc.alloc.rate.norm row is the interceptor's allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsInterceptorBenchmark {
+
+    private static final int REQUESTS = 4096;
+    private static final int IDS = 100_000;
+
+    private static final Class<?>[] CONTROLLERS = {
+        MovieController.class, ActorController.class, GenreController.class, RecommendationController.class
+    };
+
+    private MetricsInterceptor interceptor;
+    private HandlerMethod[] handlers;
+    private HttpServletRequest[] requests;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance(int length) {
+            next = next + 1 == length ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        Map<RequestMappingInfo, HandlerMethod> mappings = new LinkedHashMap<>();
+        List<String> paths = new ArrayList<>();
+        for (Class<?> controller : CONTROLLERS) {
+            RequestMapping base = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+            // The interceptor never calls the controller, so its dependencies can stay unset
+            Object bean = new ObjenesisStd().newInstance(controller);
+            for (Method method : controller.getDeclaredMethods()) {
+                RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+                if (mapping == null) {
+                    continue;
+                }
+                String path = base.path()[0] + (mapping.path().length > 0 ? mapping.path()[0] : "");
+                mappings.put(RequestMappingInfo.paths(path).methods(mapping.method()).build(),
+                    new HandlerMethod(bean, method));
+                paths.add(path);
+            }
+        }
+
+        interceptor = new MetricsInterceptor(new ApiMetricsService(),
+            new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class));
+        interceptor.register(mappings);
+        HandlerMethod[] handlerMethods = mappings.values().toArray(HandlerMethod[]::new);
+        Random random = new Random(Catalog.SEED);
+        handlers = new HandlerMethod[REQUESTS];
+        requests = new HttpServletRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int handler = random.nextInt(handlerMethods.length);
+            handlers[i] = handlerMethods[handler];
+            requests[i] = request(paths.get(handler).replaceAll("\\{[^}]+}", String.valueOf(1 + random.nextInt(IDS))));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean preHandle(Cursor cursor) throws Exception {
+        int i = cursor.advance(handlers.length);
+        return interceptor.preHandle(requests[i], null, handlers[i]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean preHandleContended(Cursor cursor) throws Exception {
+        int i = cursor.advance(handlers.length);
+        return interceptor.preHandle(requests[i], null, handlers[i]);
+    }
+
+    // Only the request URI is ever read
+    private static HttpServletRequest request(String uri) {
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+            new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "getRequestURI" -> uri;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
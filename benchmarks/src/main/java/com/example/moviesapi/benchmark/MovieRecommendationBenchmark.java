@@ -0,0 +1,59 @@
+package com.example.moviesapi.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.moviesapi.model.Movie;
+import com.example.moviesapi.service.MovieRecommendationService;
+
+/**
+ * Recommendation scoring over the whole catalog, with the repository answering
+ * from memory so only the service's own work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class MovieRecommendationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int movies;
+
+    private MovieRecommendationService service;
+    private long favoriteId;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        List<Movie> catalog = Catalog.movies(movies);
+        service = new MovieRecommendationService();
+        Field repository = MovieRecommendationService.class.getDeclaredField("movieRepository");
+        repository.setAccessible(true);
+        repository.set(service, Catalog.repository(catalog));
+        favoriteId = movies / 2;
+    }
+
+    @Benchmark
+    public List<Movie> recommendationsByMovie() {
+        return service.getRecommendationsByMovie(favoriteId, 10);
+    }
+
+    @Benchmark
+    public List<Movie> trendingMovies() {
+        return service.getTrendingMovies(10);
+    }
+}
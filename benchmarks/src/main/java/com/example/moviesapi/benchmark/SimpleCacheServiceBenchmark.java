@@ -0,0 +1,85 @@
+package com.example.moviesapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.moviesapi.cache.SimpleCacheService;
+
+/**
+ * SimpleCacheService lookups and inserts, alone and with readers and a writer
+ * contending on the same keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleCacheServiceBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    private SimpleCacheService cache;
+    private String[] keys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 7919) % KEYS;
+            return next;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        cache = new SimpleCacheService();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "movie_" + i;
+            cache.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object get(Cursor cursor) {
+        return cache.get(keys[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void put(Cursor cursor) {
+        int i = cursor.advance();
+        cache.put(keys[i], i);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public Object contendedGet(Cursor cursor) {
+        return cache.get(keys[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedPut(Cursor cursor) {
+        int i = cursor.advance();
+        cache.put(keys[i], i);
+    }
+}
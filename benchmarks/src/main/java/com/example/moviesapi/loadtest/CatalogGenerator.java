@@ -0,0 +1,184 @@
+package com.example.moviesapi.loadtest;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+import org.flywaydb.core.Flyway;
+
+/**
+ * Writes a synthetic catalog into a new SQLite database with the application's
+ * Flyway schema.
+ *
+ * Every movie has 1-3 genres and 3-8 actors. Genres and actors are drawn from Zipf
+ * distributions, so link counts are as skewed as in a real catalog: a few
+ * actors appear in thousands of movies while most appear in a handful. Release years
+ * lean towards recent decades. The same seed always produces the same database.
+ *
+ *     java -cp benchmarks/target/benchmarks.jar com.example.moviesapi.loadtest.CatalogGenerator \
+ *          --db=catalog.db --movies=1000000 --actors=200000 [--zipf=0.6] [--seed=42]
+ *
+ * Serve it with the prod profile, which keeps the schema and skips data.sql:
+ *
+ *     java -jar target/movies-api-1.0.0.jar --spring.profiles.active=prod \
+ *          --spring.datasource.url=jdbc:sqlite:catalog.db
+ */
+public final class CatalogGenerator {
+
+    private static final int BATCH = 10_000;
+
+    private final String url;
+    private final int movies;
+    private final int actors;
+    private final double exponent;
+    private final Random random;
+
+    private CatalogGenerator(String url, int movies, int actors, double exponent, long seed) {
+        this.url = url;
+        this.movies = movies;
+        this.actors = actors;
+        this.exponent = exponent;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = new Options(args);
+        String db = options.get("db", "catalog.db");
+        if (new File(db).exists()) {
+            throw new IllegalStateException(db + " already exists; the generator only writes new databases");
+        }
+        CatalogGenerator generator = new CatalogGenerator("jdbc:sqlite:" + db,
+            options.getInt("movies", 1_000_000), options.getInt("actors", 200_000),
+            options.getDouble("zipf", 0.6), options.getLong("seed", 42));
+        long start = System.nanoTime();
+        generator.generate();
+        System.out.printf("Generated %s in %.1f s%n", db, (System.nanoTime() - start) / 1e9);
+    }
+
+    private void generate() throws SQLException {
+        Flyway.configure().dataSource(url, "", "").locations("classpath:db/migration").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            try (Statement statement = connection.createStatement()) {
+                // Throwaway database: no journal, no fsync
+                statement.execute("PRAGMA journal_mode = OFF");
+                statement.execute("PRAGMA synchronous = OFF");
+            }
+            connection.setAutoCommit(false);
+
+            insertGenres(connection);
+            insertActors(connection);
+            insertMovies(connection);
+            insertLinks(connection);
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+            report(connection);
+        }
+    }
+
+    private void insertGenres(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO genres (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < Vocabulary.GENRES.length; i++) {
+                insert.setLong(1, i + 1);
+                insert.setString(2, Vocabulary.GENRES[i]);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertActors(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO actors (id, name, birth_date) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= actors; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, Vocabulary.FIRST_NAMES[random.nextInt(Vocabulary.FIRST_NAMES.length)] + " "
+                    + Vocabulary.LAST_NAMES[random.nextInt(Vocabulary.LAST_NAMES.length)]);
+                // Born 1930-2005
+                insert.setLong(3, -14_600 + random.nextInt(27_400));
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertMovies(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO movies (id, title, release_year, duration) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= movies; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, Vocabulary.title(i - 1));
+                insert.setInt(3, Math.max(1920, 2024 - (int) Math.abs(random.nextGaussian() * 25)));
+                insert.setInt(4, Math.min(240, Math.max(60, 105 + (int) (random.nextGaussian() * 20))));
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertLinks(Connection connection) throws SQLException {
+        Zipf genreRanks = new Zipf(Vocabulary.GENRES.length, 0.8);
+        Zipf actorRanks = new Zipf(actors, exponent);
+        long[] genreIds = Zipf.shuffledIds(Vocabulary.GENRES.length, random);
+        long[] actorIds = Zipf.shuffledIds(actors, random);
+
+        try (PreparedStatement genre = connection.prepareStatement(
+                 "INSERT OR IGNORE INTO movie_genres (movie_id, genre_id) VALUES (?, ?)");
+             PreparedStatement actor = connection.prepareStatement(
+                 "INSERT OR IGNORE INTO movie_actors (movie_id, actor_id) VALUES (?, ?)")) {
+            for (int movie = 1; movie <= movies; movie++) {
+                for (int g = 1 + random.nextInt(3); g > 0; g--) {
+                    genre.setLong(1, movie);
+                    genre.setLong(2, genreIds[genreRanks.sample(random)]);
+                    genre.addBatch();
+                }
+                for (int a = 3 + random.nextInt(6); a > 0; a--) {
+                    actor.setLong(1, movie);
+                    actor.setLong(2, actorIds[actorRanks.sample(random)]);
+                    actor.addBatch();
+                }
+                if (movie % BATCH == 0) {
+                    genre.executeBatch();
+                    actor.executeBatch();
+                }
+            }
+            genre.executeBatch();
+            actor.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static void report(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[] {"movies", "actors", "genres", "movie_genres", "movie_actors"}) {
+                try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                    rs.next();
+                    System.out.printf("%-13s %,d rows%n", table, rs.getLong(1));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT MAX(n), AVG(n) FROM (SELECT COUNT(*) AS n FROM movie_actors GROUP BY actor_id)")) {
+                rs.next();
+                System.out.printf("movies per actor: max %,d, mean %.1f (actors with at least one movie)%n",
+                    rs.getLong(1), rs.getDouble(2));
+            }
+        }
+    }
+}
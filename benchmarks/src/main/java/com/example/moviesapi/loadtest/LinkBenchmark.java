@@ -0,0 +1,179 @@
+package com.example.moviesapi.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Latency of linking movies to the most linked genre and actor of a large catalog.
+ *
+ * Picks the genre and the actor with the most movies, then for --iterations random
+ * movies linked to neither: links the genre, unlinks it, links the actor, unlinks
+ * it, and replaces the movie's relations with its own plus both (then puts them
+ * back). Every request leaves the catalog as it found it, so runs are repeatable.
+ * Reads the catalog file only to choose the ids; all changes go through the API.
+ *
+ *     java -cp benchmarks/target/benchmarks.jar com.example.moviesapi.loadtest.LinkBenchmark \
+ *          --db=catalog.db [--base=http://localhost:8081] [--iterations=20] [--timeout=120] [--seed=42]
+ */
+public final class LinkBenchmark {
+
+    private final String base;
+    private final HttpClient client;
+    private final Duration timeout;
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+    private final Map<String, Integer> errors = new LinkedHashMap<>();
+
+    private LinkBenchmark(String base, Duration timeout) {
+        this.base = base;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String db = options.get("db", null);
+        if (db == null) {
+            throw new IllegalArgumentException("--db=<catalog file> is required");
+        }
+        int iterations = options.getInt("iterations", 20);
+        Random random = new Random(options.getLong("seed", 42));
+        LinkBenchmark benchmark = new LinkBenchmark(options.get("base", "http://localhost:8081"),
+            Duration.ofSeconds(options.getInt("timeout", 120)));
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:file:" + db + "?mode=ro")) {
+            long links = single(connection, "SELECT (SELECT COUNT(*) FROM movie_genres) + (SELECT COUNT(*) FROM movie_actors)");
+            long movies = single(connection, "SELECT MAX(id) FROM movies");
+            long[] genre = top(connection, "SELECT genre_id, COUNT(*) FROM movie_genres GROUP BY genre_id ORDER BY 2 DESC LIMIT 1");
+            long[] actor = top(connection, "SELECT actor_id, COUNT(*) FROM movie_actors GROUP BY actor_id ORDER BY 2 DESC LIMIT 1");
+            System.out.printf("%,d movies, %,d links; genre %d has %,d movies, actor %d has %,d; %d iterations%n",
+                movies, links, genre[0], genre[1], actor[0], actor[1], iterations);
+
+            for (int i = 0; i < iterations; i++) {
+                long movie = unlinkedMovie(connection, random, movies, genre[0], actor[0]);
+                List<Long> genres = ids(connection, "SELECT genre_id FROM movie_genres WHERE movie_id = ?", movie);
+                List<Long> actors = ids(connection, "SELECT actor_id FROM movie_actors WHERE movie_id = ?", movie);
+                benchmark.run(movie, genre[0], actor[0], genres, actors);
+                System.out.print('.');
+            }
+        }
+        System.out.println();
+        benchmark.report();
+    }
+
+    private void run(long movie, long genre, long actor, List<Long> genres, List<Long> actors)
+            throws IOException, InterruptedException {
+        String path = "/api/movies/" + movie;
+        send("genre.add", path + "/genres", "POST", "[" + genre + "]");
+        send("genre.remove", path + "/genres", "DELETE", "[" + genre + "]");
+        send("actor.add", path + "/actors", "POST", "[" + actor + "]");
+        send("actor.remove", path + "/actors", "DELETE", "[" + actor + "]");
+
+        List<Long> moreGenres = new ArrayList<>(genres);
+        moreGenres.add(genre);
+        List<Long> moreActors = new ArrayList<>(actors);
+        moreActors.add(actor);
+        send("relations.replace", path + "/relationships?" + query(moreGenres, moreActors), "PATCH", null);
+        send("relations.restore", path + "/relationships?" + query(genres, actors), "PATCH", null);
+    }
+
+    private void send(String operation, String path, String method, String json) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path)).timeout(timeout);
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        }
+        latencies.computeIfAbsent(operation, key -> new ArrayList<>()).add(System.nanoTime() - start);
+        if (status != 200) {
+            errors.merge(operation, 1, Integer::sum);
+        }
+    }
+
+    private void report() {
+        System.out.printf("%n%-20s %7s %7s %10s %10s %10s%n", "operation", "count", "errors", "p50 ms", "p90 ms", "max ms");
+        latencies.forEach((operation, samples) -> {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf(Locale.ROOT, "%-20s %7d %7d %10.2f %10.2f %10.2f%n", operation, sorted.length,
+                errors.getOrDefault(operation, 0), percentile(sorted, 0.5), percentile(sorted, 0.9),
+                sorted[sorted.length - 1] / 1e6);
+        });
+    }
+
+    // SECTION: catalog queries
+
+    private static long unlinkedMovie(Connection connection, Random random, long movies, long genre, long actor)
+            throws SQLException {
+        while (true) {
+            long movie = 1 + (long) (random.nextDouble() * movies);
+            // Needs at least one link of each kind, an empty id list would not restore it
+            if (single(connection, "SELECT EXISTS (SELECT 1 FROM movie_genres WHERE movie_id = " + movie + ")"
+                    + " AND EXISTS (SELECT 1 FROM movie_actors WHERE movie_id = " + movie + ")"
+                    + " AND NOT EXISTS (SELECT 1 FROM movie_genres WHERE movie_id = " + movie + " AND genre_id = " + genre + ")"
+                    + " AND NOT EXISTS (SELECT 1 FROM movie_actors WHERE movie_id = " + movie + " AND actor_id = " + actor + ")") == 1) {
+                return movie;
+            }
+        }
+    }
+
+    private static long single(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql); ResultSet rows = statement.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static long[] top(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql); ResultSet rows = statement.executeQuery()) {
+            rows.next();
+            return new long[] {rows.getLong(1), rows.getLong(2)};
+        }
+    }
+
+    private static List<Long> ids(Connection connection, String sql, long movie) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, movie);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static String query(List<Long> genres, List<Long> actors) {
+        return "genreIds=" + join(genres) + "&actorIds=" + join(actors);
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
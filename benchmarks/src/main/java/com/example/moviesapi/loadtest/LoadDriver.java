@@ -0,0 +1,391 @@
+package com.example.moviesapi.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop HTTP load against a running movies-api instance.
+ *
+ * Each of --concurrency workers repeatedly picks an operation from the weighted mix,
+ * sends it, and waits for the response before sending the next one. Reads pick
+ * movies, actors and genres through the same kind of Zipf distribution the catalog
+ * generator uses, so popular rows are hot. Writes create movies, then update and
+ * force-delete movies the driver itself created, so the catalog does not drift. After
+ * --warmup seconds the driver records for --duration seconds and prints throughput,
+ * error count and latency percentiles per operation.
+ *
+ *     java -cp benchmarks/target/benchmarks.jar com.example.moviesapi.loadtest.LoadDriver \
+ *          --base=http://localhost:8081 --concurrency=32 --warmup=15 --duration=60 \
+ *          [--mix=movie.get:20,movie.create:0] [--zipf=0.6] [--seed=42] [--out=results.json]
+ *
+ * --mix overrides the weights of the named operations; weight 0 disables one.
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String base;
+    private final HttpClient client;
+    private final long movies;
+    private final long actors;
+    private final long genres;
+    private final Zipf movieRanks;
+    private final Zipf actorRanks;
+    private final Zipf genreRanks;
+    private final long[] movieIds;
+    private final long[] actorIds;
+    private final long[] genreIds;
+    private final List<Operation> mix;
+    private final int totalWeight;
+
+    // Movies created by the driver, the only ones it updates or deletes
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadDriver(String base, HttpClient client, Options options) throws IOException, InterruptedException {
+        this.base = base;
+        this.client = client;
+        this.movies = count("/api/movies/paged?page=0&size=1");
+        this.actors = count("/api/actors/paged?page=0&size=1");
+        this.genres = count("/api/genres/paged?page=0&size=1");
+        if (movies == 0 || actors == 0 || genres == 0) {
+            throw new IllegalStateException("The catalog at " + base + " is empty; see CatalogGenerator");
+        }
+
+        // Ids are assumed dense (1..count), which holds for generated catalogs
+        double exponent = options.getDouble("zipf", 0.6);
+        Random random = new Random(options.getLong("seed", 42));
+        this.movieRanks = new Zipf((int) movies, exponent);
+        this.actorRanks = new Zipf((int) actors, exponent);
+        this.genreRanks = new Zipf((int) genres, 0.8);
+        this.movieIds = Zipf.shuffledIds((int) movies, random);
+        this.actorIds = Zipf.shuffledIds((int) actors, random);
+        this.genreIds = Zipf.shuffledIds((int) genres, random);
+
+        this.mix = mix(options.get("mix", ""));
+        this.totalWeight = mix.stream().mapToInt(operation -> operation.weight).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String base = options.get("base", "http://localhost:8081");
+        int concurrency = options.getInt("concurrency", 32);
+        int warmup = options.getInt("warmup", 15);
+        int duration = options.getInt("duration", 60);
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        LoadDriver driver = new LoadDriver(base, client, options);
+        System.out.printf("%s: %,d movies, %,d actors, %,d genres; %d workers, %d s warmup, %d s measured%n",
+            base, driver.movies, driver.actors, driver.genres, concurrency, warmup, duration);
+
+        List<Recorder> recorders = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Recorder recorder = new Recorder(driver.mix.size());
+                recorders.add(recorder);
+                Random random = new Random(options.getLong("seed", 42) + i + 1);
+                workers.submit(() -> driver.work(recorder, random));
+            }
+            Thread.sleep(warmup * 1000L);
+            driver.recording = true;
+            long start = System.nanoTime();
+            Thread.sleep(duration * 1000L);
+            driver.recording = false;
+            driver.running = false;
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Map<String, Map<String, Object>> report = driver.report(recorders, seconds);
+            String out = options.get("out", null);
+            if (out != null) {
+                MAPPER.writerWithDefaultPrettyPrinter().writeValue(Path.of(out).toFile(), report);
+            }
+        }
+        client.close();
+    }
+
+    private void work(Recorder recorder, Random random) {
+        while (running) {
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (pick >= mix.get(index).weight) {
+                pick -= mix.get(index).weight;
+                index++;
+            }
+            Operation operation = mix.get(index);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = operation.request.send(this, random);
+            } catch (IOException | RuntimeException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (recording) {
+                recorder.record(index, System.nanoTime() - start, ok);
+            }
+        }
+    }
+
+    // SECTION: operations
+
+    @FunctionalInterface
+    private interface Request {
+        // Returns false when the response status was not the expected one
+        boolean send(LoadDriver driver, Random random) throws IOException, InterruptedException;
+    }
+
+    private record Operation(String name, int weight, Request request) {
+    }
+
+    private static List<Operation> mix(String overrides) {
+        Map<String, Request> requests = new LinkedHashMap<>();
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        define(requests, weights, "movie.get", 20,
+            (d, r) -> d.get("/api/movies/" + d.movie(r)));
+        define(requests, weights, "movie.list", 8,
+            (d, r) -> d.get("/api/movies/paged?page=" + r.nextInt(50) + "&size=20"));
+        define(requests, weights, "movie.summaries", 8,
+            (d, r) -> d.get("/api/movies/summaries?page=" + r.nextInt(50) + "&size=20"));
+        define(requests, weights, "movie.search", 10,
+            (d, r) -> d.get("/api/movies/search?title=" + d.word(r) + "&size=20"));
+        define(requests, weights, "suggest", 10,
+            (d, r) -> d.get("/api/suggest?q=" + d.prefix(r)));
+        define(requests, weights, "movie.byGenre", 8,
+            (d, r) -> d.get("/api/movies/by-genre/" + d.genre(r)));
+        define(requests, weights, "movie.byYear", 5,
+            (d, r) -> d.get("/api/movies/by-year/" + (2024 - (int) Math.abs(r.nextGaussian() * 25))));
+        define(requests, weights, "movie.advancedSearch", 5, (d, r) -> {
+            int minYear = 1950 + r.nextInt(70);
+            int minDuration = 60 + r.nextInt(100);
+            return d.get("/api/movies/advanced-search?minYear=" + minYear + "&maxYear=" + (minYear + 5)
+                + "&minDuration=" + minDuration + "&maxDuration=" + (minDuration + 20) + "&size=20");
+        });
+        define(requests, weights, "actor.movies", 6,
+            (d, r) -> d.get("/api/actors/" + d.actor(r) + "/movies"));
+        define(requests, weights, "recommendation.byMovie", 1,
+            (d, r) -> d.get("/api/recommendations/by-movie/" + d.movie(r) + "?limit=10"));
+        define(requests, weights, "recommendation.trending", 1,
+            (d, r) -> d.get("/api/recommendations/trending?limit=10"));
+        // Opt in with --mix; the whole genre list, one of the byte-cached responses
+        define(requests, weights, "genre.list", 0,
+            (d, r) -> d.get("/api/genres"));
+        define(requests, weights, "movie.create", 4, LoadDriver::create);
+        define(requests, weights, "movie.update", 4, LoadDriver::update);
+        define(requests, weights, "movie.delete", 2, LoadDriver::delete);
+
+        if (!overrides.isBlank()) {
+            for (String override : overrides.split(",")) {
+                String[] parts = override.split(":");
+                if (parts.length != 2 || !weights.containsKey(parts[0])) {
+                    throw new IllegalArgumentException("Unknown mix entry " + override + ", operations are " + weights.keySet());
+                }
+                weights.put(parts[0], Integer.parseInt(parts[1]));
+            }
+        }
+        List<Operation> operations = new ArrayList<>();
+        requests.forEach((name, request) -> {
+            if (weights.get(name) > 0) {
+                operations.add(new Operation(name, weights.get(name), request));
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Every operation has weight 0");
+        }
+        return operations;
+    }
+
+    private static void define(Map<String, Request> requests, Map<String, Integer> weights,
+                               String name, int weight, Request request) {
+        requests.put(name, request);
+        weights.put(name, weight);
+    }
+
+    private boolean create(Random random) throws IOException, InterruptedException {
+        String title = "Load Test " + Long.toHexString(random.nextLong());
+        String body = "{\"title\":\"" + title + "\",\"releaseYear\":" + (1950 + random.nextInt(75))
+            + ",\"duration\":" + (80 + random.nextInt(80)) + "}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(
+                "/api/movies/with-relationships?genreIds=" + genre(random) + "&actorIds=" + actor(random)
+                    + "," + actor(random) + "," + actor(random)))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        created.add(MAPPER.readTree(response.body()).path("id").asLong());
+        return true;
+    }
+
+    private boolean update(Random random) throws IOException, InterruptedException {
+        Long id = created.poll();
+        if (id == null) {
+            return create(random);
+        }
+        String body = "{\"title\":\"Load Test " + Long.toHexString(random.nextLong()) + "\",\"releaseYear\":"
+            + (1950 + random.nextInt(75)) + ",\"duration\":" + (80 + random.nextInt(80)) + "}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/movies/" + id))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(body)));
+        created.add(id);
+        return response.statusCode() == 200;
+    }
+
+    private boolean delete(Random random) throws IOException, InterruptedException {
+        Long id = created.poll();
+        if (id == null) {
+            return create(random);
+        }
+        return send(HttpRequest.newBuilder(uri("/api/movies/" + id + "?force=true")).DELETE()).statusCode() < 300;
+    }
+
+    // SECTION: helpers
+
+    private boolean get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri(path)).GET()).statusCode() == 200;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create(base + path);
+    }
+
+    private long count(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(path)).GET());
+        JsonNode total = response.statusCode() == 200 ? MAPPER.readTree(response.body()).get("totalElements") : null;
+        if (total == null) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return total.asLong();
+    }
+
+    private long movie(Random random) {
+        return movieIds[movieRanks.sample(random)];
+    }
+
+    private long actor(Random random) {
+        return actorIds[actorRanks.sample(random)];
+    }
+
+    private long genre(Random random) {
+        return genreIds[genreRanks.sample(random)];
+    }
+
+    private String word(Random random) {
+        String[] words = random.nextBoolean() ? Vocabulary.ADJECTIVES : Vocabulary.NOUNS;
+        return words[random.nextInt(words.length)];
+    }
+
+    private String prefix(Random random) {
+        String word = word(random).toLowerCase(Locale.ROOT);
+        return word.substring(0, Math.min(word.length(), 2 + random.nextInt(3)));
+    }
+
+    // SECTION: reporting
+
+    private static final class Recorder {
+        final long[][] latencies;
+        final int[] counts;
+        final int[] errors;
+
+        Recorder(int operations) {
+            latencies = new long[operations][1024];
+            counts = new int[operations];
+            errors = new int[operations];
+        }
+
+        void record(int operation, long nanos, boolean ok) {
+            if (!ok) {
+                errors[operation]++;
+            }
+            if (counts[operation] == latencies[operation].length) {
+                latencies[operation] = Arrays.copyOf(latencies[operation], counts[operation] * 2);
+            }
+            latencies[operation][counts[operation]++] = nanos;
+        }
+    }
+
+    private Map<String, Map<String, Object>> report(List<Recorder> recorders, double seconds) {
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        long[] all = new long[0];
+        int allErrors = 0;
+        System.out.printf("%n%-25s %9s %7s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (int op = 0; op < mix.size(); op++) {
+            int count = 0;
+            int errors = 0;
+            for (Recorder recorder : recorders) {
+                count += recorder.counts[op];
+                errors += recorder.errors[op];
+            }
+            long[] latencies = new long[count];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies[op], 0, latencies, offset, recorder.counts[op]);
+                offset += recorder.counts[op];
+            }
+            report.put(mix.get(op).name, row(mix.get(op).name, latencies, errors, seconds));
+            all = concat(all, latencies);
+            allErrors += errors;
+        }
+        report.put("total", row("total", all, allErrors, seconds));
+        return report;
+    }
+
+    private static Map<String, Object> row(String name, long[] latencies, int errors, double seconds) {
+        Arrays.sort(latencies);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", latencies.length);
+        row.put("errors", errors);
+        row.put("throughput", latencies.length / seconds);
+        row.put("p50", percentile(latencies, 0.50));
+        row.put("p90", percentile(latencies, 0.90));
+        row.put("p99", percentile(latencies, 0.99));
+        row.put("max", latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1e6);
+        System.out.printf(Locale.ROOT, "%-25s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+            name, latencies.length, errors, row.get("throughput"), row.get("p50"), row.get("p90"),
+            row.get("p99"), row.get("max"));
+        return row;
+    }
+
+    // Nearest-rank percentile in milliseconds
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
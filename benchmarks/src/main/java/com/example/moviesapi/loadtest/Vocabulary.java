@@ -0,0 +1,62 @@
+package com.example.moviesapi.loadtest;
+
+/**
+ * Words the synthetic catalog is built from. The load driver searches with the same
+ * words, so searches and autocomplete prefixes hit real rows.
+ */
+public final class Vocabulary {
+
+    public static final String[] GENRES = {
+        "Action", "Adventure", "Animation", "Biography", "Comedy", "Crime", "Documentary",
+        "Drama", "Family", "Fantasy", "History", "Horror", "Music", "Musical", "Mystery",
+        "Romance", "Sci-Fi", "Sport", "Thriller", "War", "Western", "Noir", "Short",
+        "Superhero", "Teen", "Disaster", "Martial Arts", "Spy", "Heist", "Satire"
+    };
+
+    static final String[] ADJECTIVES = {
+        "Silent", "Broken", "Golden", "Hidden", "Last", "Lost", "Midnight", "Crimson", "Frozen", "Burning",
+        "Dark", "Eternal", "Forgotten", "Wild", "Distant", "Hollow", "Iron", "Secret", "Savage", "Electric",
+        "Endless", "Fallen", "Final", "Velvet", "Shattered", "Quiet", "Restless", "Scarlet", "Stolen", "Wicked",
+        "Bitter", "Brave", "Cold", "Deep", "Empty", "Fading", "Gentle", "Grand", "Lonely", "Lucky",
+        "Northern", "Pale", "Perfect", "Rising", "Rogue", "Sacred", "Shadow", "Sleeping", "Twisted", "Young"
+    };
+
+    static final String[] NOUNS = {
+        "River", "Kingdom", "Empire", "Horizon", "Garden", "Harbor", "Mountain", "Ocean", "City", "Station",
+        "Mirror", "Promise", "Journey", "Signal", "Winter", "Summer", "Storm", "Forest", "Island", "Desert",
+        "Machine", "Protocol", "Frontier", "Legacy", "Dynasty", "Voyage", "Circle", "Bridge", "Tower", "Road",
+        "Heart", "Hunter", "Witness", "Stranger", "Outlaw", "Detective", "Soldier", "Pilot", "Dancer", "Thief",
+        "Dream", "Secret", "Memory", "Shadow", "Fire", "Night", "Sky", "Moon", "Star", "Code"
+    };
+
+    static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Karen",
+        "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sofia", "Mark", "Yuki", "Paul", "Amara",
+        "Steven", "Emily", "Andrew", "Chloe", "Kenji", "Olivia", "Ravi", "Isabella", "Luca", "Mei",
+        "Omar", "Zara", "Pierre", "Ingrid", "Diego", "Aisha", "Sven", "Priya", "Mateo", "Hana"
+    };
+
+    static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+        "Tanaka", "Kim", "Nguyen", "Okafor", "Rossi", "Dubois", "Schmidt", "Novak", "Silva", "Kowalski",
+        "Ivanova", "Haddad", "Larsen", "Moreau", "Sato", "Chen", "Patel", "Costa", "Fischer", "Andersson"
+    };
+
+    private Vocabulary() {
+    }
+
+    /**
+     * Unique title for the n-th movie (n from 0): "The Silent River", then numbered
+     * sequels once every adjective/noun pair is used.
+     */
+    static String title(long n) {
+        int pairs = ADJECTIVES.length * NOUNS.length;
+        long sequel = n / pairs;
+        String base = "The " + ADJECTIVES[(int) (n % ADJECTIVES.length)] + " "
+            + NOUNS[(int) (n / ADJECTIVES.length % NOUNS.length)];
+        return sequel == 0 ? base : base + " " + (sequel + 1);
+    }
+}
@@ -0,0 +1,156 @@
+#!/usr/bin/env python3
+"""
+Compares SQLite query plans and timings for the repository query shapes
+before and after db/migration/V2__secondary_indexes.sql.
+
+V4 stores actors.birth_date as an epoch-day INTEGER instead of ISO text, so
+dates are bound in whichever form each database's column uses.
+
+Builds two throwaway databases with the same synthetic catalog: one with the
+baseline schema only (V1, what ddl-auto=create used to produce) and one with
+all migrations applied. Prints EXPLAIN QUERY PLAN and the median time of each
+query on both, as Markdown.
+
+    python3 scripts/query-plans.py [--movies 200000] [--actors 50000]
+"""
+
+import argparse
+import datetime
+import os
+import random
+import sqlite3
+import statistics
+import tempfile
+import time
+from pathlib import Path
+
+MIGRATIONS = Path(__file__).resolve().parent.parent / "src/main/resources/db/migration"
+
+EPOCH = datetime.date(1970, 1, 1).toordinal()
+
+# SQL as Hibernate renders it for each repository method (taken from the SQL log)
+QUERIES = [
+    ("MovieRepository.existsByTitleAndReleaseYear",
+     "select m1_0.id from movies m1_0 where m1_0.title=? and m1_0.release_year=? limit ?",
+     lambda r: (f"Movie {r.randrange(ARGS.movies)}", 1990 + r.randrange(35), 1)),
+    ("MovieRepository.findByReleaseYear (page)",
+     "select m1_0.id,m1_0.duration,m1_0.release_year,m1_0.title from movies m1_0 "
+     "where m1_0.release_year=? limit ? offset ?",
+     lambda r: (1990 + r.randrange(35), 20, 0)),
+    ("MovieRepository.findByReleaseYear (page count)",
+     "select count(m1_0.id) from movies m1_0 where m1_0.release_year=?",
+     lambda r: (1990 + r.randrange(35),)),
+    ("MovieRepository.findByDurationBetween",
+     "select m1_0.id,m1_0.duration,m1_0.release_year,m1_0.title from movies m1_0 "
+     "where m1_0.duration between ? and ?",
+     lambda r: (95, 96)),
+    ("MovieRepository.findByOrderByReleaseYearDesc (page)",
+     "select m1_0.id,m1_0.duration,m1_0.release_year,m1_0.title from movies m1_0 "
+     "order by m1_0.release_year desc limit ? offset ?",
+     lambda r: (20, 0)),
+    ("MovieRepository.findByGenresId (page)",
+     "select m1_0.id,m1_0.duration,m1_0.release_year,m1_0.title from movies m1_0 "
+     "join movie_genres g1_0 on m1_0.id=g1_0.movie_id where g1_0.genre_id=? limit ? offset ?",
+     lambda r: (1 + r.randrange(30), 20, 0)),
+    ("MovieRepository.findByActorsId (page)",
+     "select m1_0.id,m1_0.duration,m1_0.release_year,m1_0.title from movies m1_0 "
+     "join movie_actors a1_0 on m1_0.id=a1_0.movie_id where a1_0.actor_id=? limit ? offset ?",
+     lambda r: (1 + r.randrange(ARGS.actors), 20, 0)),
+    ("Movie.genres (load a movie's genres)",
+     "select g1_0.movie_id,g1_1.id,g1_1.name from movie_genres g1_0 "
+     "join genres g1_1 on g1_1.id=g1_0.genre_id where g1_0.movie_id=?",
+     lambda r: (1 + r.randrange(ARGS.movies),)),
+    ("Movie.actors (load a movie's actors)",
+     "select a1_0.movie_id,a1_1.id,a1_1.birth_date,a1_1.name from movie_actors a1_0 "
+     "join actors a1_1 on a1_1.id=a1_0.actor_id where a1_0.movie_id=?",
+     lambda r: (1 + r.randrange(ARGS.movies),)),
+    ("ActorRepository.existsByNameAndBirthDate",
+     "select a1_0.id from actors a1_0 where a1_0.name=? and a1_0.birth_date=? limit ?",
+     lambda r: (f"Actor {r.randrange(ARGS.actors)}", datetime.date(1970, 1, 1), 1)),
+    ("ActorRepository.searchWithinBirthDates (page)",
+     "select a1_0.id,a1_0.birth_date,a1_0.name from actors a1_0 "
+     "where (? is null or lower(a1_0.name) like lower(('%'||?||'%'))) "
+     "and a1_0.birth_date between ? and ? limit ? offset ?",
+     lambda r: (None, None, datetime.date(1970, 1, 1), datetime.date(1970, 1, 31), 20, 0)),
+    ("ActorRepository.findByNameIgnoreCase",
+     "select a1_0.id,a1_0.birth_date,a1_0.name from actors a1_0 where upper(a1_0.name)=upper(?)",
+     lambda r: (f"actor {r.randrange(ARGS.actors)}",)),
+    ("GenreRepository.existsByNameIgnoreCase",
+     "select g1_0.id from genres g1_0 where upper(g1_0.name)=upper(?) limit ?",
+     lambda r: (f"genre {r.randrange(30)}", 1)),
+]
+
+
+def build(path, migrations):
+    db = sqlite3.connect(path)
+    for script in migrations:
+        db.executescript(script.read_text())
+
+    rnd = random.Random(42)
+    db.executemany("INSERT INTO genres (id, name) VALUES (?, ?)",
+                   [(i, f"Genre {i}") for i in range(1, 31)])
+    db.executemany("INSERT INTO actors (id, name, birth_date) VALUES (?, ?, ?)",
+                   [bind(db, (i, f"Actor {i}", datetime.date(1930 + rnd.randrange(70), 1 + rnd.randrange(12),
+                                                             1 + rnd.randrange(28))))
+                    for i in range(1, ARGS.actors + 1)])
+    db.executemany("INSERT INTO movies (id, title, release_year, duration) VALUES (?, ?, ?, ?)",
+                   [(i, f"Movie {i}", 1990 + rnd.randrange(35), 80 + rnd.randrange(100))
+                    for i in range(1, ARGS.movies + 1)])
+    db.executemany("INSERT OR IGNORE INTO movie_genres (movie_id, genre_id) VALUES (?, ?)",
+                   [(m, 1 + rnd.randrange(30)) for m in range(1, ARGS.movies + 1) for _ in range(3)])
+    db.executemany("INSERT OR IGNORE INTO movie_actors (movie_id, actor_id) VALUES (?, ?)",
+                   [(m, 1 + rnd.randrange(ARGS.actors)) for m in range(1, ARGS.movies + 1) for _ in range(5)])
+    db.commit()
+    db.execute("ANALYZE")
+    return db
+
+
+def bind(db, params):
+    """Dates as epoch days when actors.birth_date is INTEGER (V4 on), else as ISO text."""
+    epoch_days = any(column[1] == "birth_date" and column[2].upper() == "INTEGER"
+                     for column in db.execute("PRAGMA table_info(actors)"))
+    return tuple((value.toordinal() - EPOCH if epoch_days else value.isoformat())
+                 if isinstance(value, datetime.date) else value
+                 for value in params)
+
+
+def plan(db, sql, params):
+    rows = db.execute("EXPLAIN QUERY PLAN " + sql, bind(db, params)).fetchall()
+    return "; ".join(row[3] for row in rows)
+
+
+def median_ms(db, sql, make_params, runs):
+    rnd = random.Random(7)
+    samples = []
+    for _ in range(runs):
+        params = bind(db, make_params(rnd))
+        start = time.perf_counter()
+        db.execute(sql, params).fetchall()
+        samples.append((time.perf_counter() - start) * 1000)
+    return statistics.median(samples)
+
+
+def main():
+    all_migrations = sorted(MIGRATIONS.glob("V*.sql"), key=lambda p: int(p.name[1:].split("__")[0]))
+    with tempfile.TemporaryDirectory() as tmp:
+        before = build(os.path.join(tmp, "before.db"), all_migrations[:1])
+        after = build(os.path.join(tmp, "after.db"), all_migrations)
+
+        print(f"SQLite {sqlite3.sqlite_version}, {ARGS.movies} movies, {ARGS.actors} actors, 30 genres, "
+              f"~3 genres and ~5 actors per movie, median of {ARGS.runs} runs\n")
+        print("| Query | Plan before | Plan after | Before (ms) | After (ms) |")
+        print("|---|---|---|---:|---:|")
+        for name, sql, make_params in QUERIES:
+            params = make_params(random.Random(1))
+            print(f"| {name} | `{plan(before, sql, params)}` | `{plan(after, sql, params)}` "
+                  f"| {median_ms(before, sql, make_params, ARGS.runs):.3f} "
+                  f"| {median_ms(after, sql, make_params, ARGS.runs):.3f} |")
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--movies", type=int, default=200_000)
+    parser.add_argument("--actors", type=int, default=50_000)
+    parser.add_argument("--runs", type=int, default=50)
+    ARGS = parser.parse_args()
+    main()
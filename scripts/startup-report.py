@@ -0,0 +1,94 @@
+#!/usr/bin/env python3
+"""
+Measures startup time of the packaged application in each fast-start mode.
+
+Needs a `mvn -Pfast-start package` build: target/movies-api-1.0.0.jar (which then
+contains the AOT-generated code) and target/fast-start/ (application.jar, lib/ and
+the CDS archive application.jsa). Every mode runs the prod profile against the same
+throwaway, already migrated database. Reports Spring's "Started ... in" and
+"process running for" times and the wall-clock time until the first API response,
+as a Markdown table of medians.
+
+    python3 scripts/startup-report.py [--runs 5] [--port 18090]
+"""
+
+import argparse
+import os
+import re
+import shutil
+import statistics
+import subprocess
+import tempfile
+import time
+import urllib.request
+from pathlib import Path
+
+TARGET = Path(__file__).resolve().parent.parent / "target"
+JAR = TARGET / "movies-api-1.0.0.jar"
+FAST_START = TARGET / "fast-start"
+
+STARTED = re.compile(r"Started MoviesApiApplication in ([0-9.]+) seconds \(process running for ([0-9.]+)\)")
+
+# (label, JVM options, launch arguments); paths are relative to target/fast-start
+MODES = [
+    ("java -jar, eager", [], ["-jar", str(JAR), "--app.startup.lazy-beans="]),
+    ("java -jar, lazy Swagger/metrics", [], ["-jar", str(JAR)]),
+    ("unpacked jar", [], ["-jar", "application.jar"]),
+    ("unpacked jar + AOT", ["-Dspring.aot.enabled=true"], ["-jar", "application.jar"]),
+    ("unpacked jar + AOT + CDS", ["-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"],
+     ["-jar", "application.jar"]),
+]
+
+
+def start_once(jvm_options, launch, database):
+    command = ["java", *jvm_options, *launch,
+               "--spring.profiles.active=prod",
+               f"--spring.datasource.url=jdbc:sqlite:{database}",
+               f"--server.port={ARGS.port}"]
+    began = time.perf_counter()
+    process = subprocess.Popen(command, cwd=FAST_START, stdout=subprocess.PIPE, stderr=subprocess.STDOUT, text=True)
+    try:
+        started = None
+        for line in process.stdout:
+            match = STARTED.search(line)
+            if match:
+                started = (float(match.group(1)), float(match.group(2)))
+                break
+        if started is None:
+            raise RuntimeError(f"did not start: {' '.join(command)}")
+        while True:
+            try:
+                urllib.request.urlopen(f"http://localhost:{ARGS.port}/api/genres", timeout=5).read()
+                break
+            except OSError:
+                time.sleep(0.05)
+        return started[0], started[1], time.perf_counter() - began
+    finally:
+        process.terminate()
+        process.wait()
+
+
+def main():
+    if not (FAST_START / "application.jsa").exists():
+        raise SystemExit("target/fast-start is missing, run: mvn -Pfast-start package")
+
+    with tempfile.TemporaryDirectory() as tmp:
+        database = os.path.join(tmp, "startup.db")
+        # First start migrates the empty database; not measured
+        start_once([], ["-jar", str(JAR)], database)
+
+        print(f"{shutil.which('java')}, median of {ARGS.runs} starts, {os.cpu_count()} CPU(s)\n")
+        print("| Mode | Started in (s) | Process running for (s) | First response (s) |")
+        print("|---|---:|---:|---:|")
+        for label, jvm_options, launch in MODES:
+            samples = [start_once(jvm_options, launch, database) for _ in range(ARGS.runs)]
+            started, running, first = (statistics.median(column) for column in zip(*samples))
+            print(f"| {label} | {started:.2f} | {running:.2f} | {first:.2f} |", flush=True)
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--runs", type=int, default=5)
+    parser.add_argument("--port", type=int, default=18090)
+    ARGS = parser.parse_args()
+    main()
@@ -10,9 +10,14 @@ import java.util.Map;
 public class CacheController {
 
     private final SimpleCacheService cacheService;
+    private final ResponseBodyCache responseBodyCache;
+    private final SecondLevelCache secondLevelCache;
 
-    public CacheController(SimpleCacheService cacheService) {
+    public CacheController(SimpleCacheService cacheService, ResponseBodyCache responseBodyCache,
+                           SecondLevelCache secondLevelCache) {
         this.cacheService = cacheService;
+        this.responseBodyCache = responseBodyCache;
+        this.secondLevelCache = secondLevelCache;
     }
 
     @GetMapping("/stats")
@@ -20,9 +25,21 @@ public class CacheController {
         return ResponseEntity.ok(cacheService.getStats());
     }
 
+    @GetMapping("/responses")
+    public ResponseEntity<Map<String, Object>> getResponseCacheStats() {
+        return ResponseEntity.ok(responseBodyCache.getStats());
+    }
+
+    @GetMapping("/second-level")
+    public ResponseEntity<Map<String, Object>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCache.getStats());
+    }
+
     @PostMapping("/clear")
     public ResponseEntity<Map<String, Object>> clearCache() {
         cacheService.clear();
+        responseBodyCache.clear();
+        secondLevelCache.clear();
         return ResponseEntity.ok(Map.of(
             "success", true,
             "message", "Cache cleared successfully",
@@ -0,0 +1,250 @@
+package com.example.moviesapi.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.example.moviesapi.metrics.ApiMetricsService;
+import com.example.moviesapi.support.CatalogVersion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caches the serialized bytes of the hottest GET responses.
+ *
+ * The configured paths return large lists (every genre, every movie with its
+ * genres and actors, the trending movies). Even when the data comes from a cache,
+ * Jackson walks the whole object graph for every request. This filter keeps the
+ * bytes the first response produced, plus a gzip copy of larger bodies, and
+ * replays them, so a hit writes a byte array without reaching the dispatcher.
+ *
+ * Entries are keyed by path, query string and Origin (CORS headers depend on it)
+ * and belong to one {@link CatalogVersion} count: any committed write makes every
+ * entry stale. Conditional requests are passed through, ConditionalGet answers
+ * them with a 304 that is cheaper still.
+ */
+@Component
+public class ResponseBodyCache extends OncePerRequestFilter {
+
+    // Set from the entry itself when it is written
+    private static final Set<String> SKIPPED_HEADERS = Set.of(HttpHeaders.CONTENT_TYPE.toLowerCase(),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase());
+    private static final Pattern GZIP_REFUSED = Pattern.compile("gzip\\s*;\\s*q=0(\\.0*)?\\s*(,|$)");
+
+    private final CatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int gzipMinBytes;
+    private final Map<String, LongAdder> apiCalls = new HashMap<>();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CountDownLatch> fills = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder gzipHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseBodyCache(CatalogVersion catalogVersion, ApiMetricsService metricsService,
+                             @Value("${app.cache.responses.enabled:true}") boolean enabled,
+                             @Value("${app.cache.responses.paths:/api/genres,/api/movies/cached,/api/recommendations/trending}") List<String> paths,
+                             @Value("${app.cache.responses.max-entries:256}") int maxEntries,
+                             @Value("${app.cache.responses.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.gzipMinBytes = gzipMinBytes;
+        // Hits never reach MetricsInterceptor; count them under the same endpoint
+        for (String path : paths) {
+            apiCalls.put(path, metricsService.counter("GET " + path));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !"GET".equals(request.getMethod())
+            || !apiCalls.containsKey(request.getRequestURI())
+            || request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        long version = catalogVersion.current().count();
+        if (replay(key, version, request, response)) {
+            return;
+        }
+
+        // Concurrent misses for one key wait for the first instead of all running the query
+        CountDownLatch fill = new CountDownLatch(1);
+        CountDownLatch running = fills.putIfAbsent(key, fill);
+        if (running != null) {
+            try {
+                running.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (replay(key, version, request, response)) {
+                return;
+            }
+        }
+
+        misses.increment();
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            // Only a response built entirely under one catalog version can be replayed for it
+            if (wrapper.getStatus() == HttpStatus.OK.value() && catalogVersion.current().count() == version) {
+                store(key, version, wrapper);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            if (running == null) {
+                fills.remove(key, fill);
+                fill.countDown();
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long version = catalogVersion.current().count();
+        long bytes = 0;
+        long gzipBytes = 0;
+        int current = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.version() == version) {
+                current++;
+                bytes += entry.body().length;
+                gzipBytes += entry.gzip() == null ? 0 : entry.gzip().length;
+            }
+        }
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("paths", new TreeMap<>(apiCalls).keySet());
+        stats.put("entries", current);
+        stats.put("staleEntries", entries.size() - current);
+        stats.put("bytes", bytes);
+        stats.put("gzipBytes", gzipBytes);
+        stats.put("hits", hitCount);
+        stats.put("gzipHits", gzipHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void store(String key, long version, ContentCachingResponseWrapper response) {
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.version() != version);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        List<String[]> headers = new ArrayList<>();
+        // Tomcat lists a name once per value
+        for (String name : new LinkedHashSet<>(response.getHeaderNames())) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                for (String value : response.getHeaders(name)) {
+                    headers.add(new String[] {name, value});
+                }
+            }
+        }
+        byte[] body = response.getContentAsByteArray();
+        byte[] gzip = body.length >= gzipMinBytes ? gzip(body) : null;
+        entries.put(key, new Entry(version, response.getContentType(), headers, body, gzip));
+    }
+
+    private boolean replay(String key, long version, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version() != version) {
+            return false;
+        }
+        hits.increment();
+        apiCalls.get(request.getRequestURI()).increment();
+        write(entry, request, response);
+        return true;
+    }
+
+    private void write(Entry entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        for (String[] header : entry.headers()) {
+            response.addHeader(header[0], header[1]);
+        }
+        byte[] body = entry.body();
+        if (entry.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                gzipHits.increment();
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = entry.gzip();
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        char separator = '?';
+        // Parameter order does not change the response
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (origin != null) {
+            key.append(' ').append(origin);
+        }
+        return key.toString();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept != null && accept.contains("gzip") && !GZIP_REFUSED.matcher(accept).find();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Entry(long version, String contentType, List<String[]> headers, byte[] body, byte[] gzip) {
+    }
+}
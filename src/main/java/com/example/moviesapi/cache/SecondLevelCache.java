@@ -0,0 +1,100 @@
+package com.example.moviesapi.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.example.moviesapi.model.Movie;
+import com.example.moviesapi.support.AfterCommit;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hit rates of Hibernate's second-level cache regions and query cache, from
+ * Hibernate's statistics, and eviction of the cached movie links (see
+ * SecondLevelCacheConfig).
+ */
+@Component
+public class SecondLevelCache {
+
+    private static final String MOVIE_GENRES = Movie.class.getName() + ".genres";
+    private static final String MOVIE_ACTORS = Movie.class.getName() + ".actors";
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    // SECTION: link eviction
+    // Hibernate evicts a cached collection only when a statement names the table of its
+    // elements, so the native link writes in MovieRepository never reach Movie.genres or
+    // Movie.actors. Evicted once for the writing transaction's own reload, and again
+    // after commit, since a concurrent reader may have cached the old links meanwhile.
+
+    public void evictLinks(Long movieId) {
+        evict(cache -> {
+            cache.evictCollectionData(MOVIE_GENRES, movieId);
+            cache.evictCollectionData(MOVIE_ACTORS, movieId);
+        });
+    }
+
+    // After a genre or actor is unlinked from all of its movies
+    public void evictAllLinks() {
+        evict(cache -> {
+            cache.evictCollectionData(MOVIE_GENRES);
+            cache.evictCollectionData(MOVIE_ACTORS);
+        });
+    }
+
+    private void evict(Consumer<Cache> eviction) {
+        Cache cache = sessionFactory.getCache();
+        eviction.accept(cache);
+        AfterCommit.run(() -> eviction.accept(cache));
+    }
+
+    // SECTION: statistics
+
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, counts(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()));
+            }
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        stats.put("regions", regions);
+        stats.put("queries", counts(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+            statistics.getQueryCachePutCount()));
+        stats.put("queriesExecuted", statistics.getQueryExecutionCount());
+        stats.put("entitiesLoaded", statistics.getEntityLoadCount());
+        stats.put("collectionsLoaded", statistics.getCollectionLoadCount());
+        return stats;
+    }
+
+    public void clear() {
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        long total = hits + misses;
+        Map<String, Object> counts = new HashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRate", total == 0 ? 0.0 : (double) hits / total);
+        return counts;
+    }
+}
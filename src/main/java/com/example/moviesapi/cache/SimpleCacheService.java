@@ -43,6 +43,10 @@ public class SimpleCacheService {
         cache.remove(key);
     }
 
+    public void removeByPrefix(String prefix) {
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
     public void clear() {
         cache.clear();
     }
@@ -0,0 +1,80 @@
+package com.example.moviesapi.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets a database created by ddl-auto=create adopt V3__entity_versions.
+ *
+ * Such a database is baselined at version 0 (see application.properties), but
+ * Hibernate has already given its tables the version column that V3 adds, and
+ * SQLite has no ADD COLUMN IF NOT EXISTS. Before V3 runs, an existing version
+ * column is renamed out of the way; after V3, its values are copied into the new
+ * column and the old one is dropped, so ETags stay what they were. V3 itself is
+ * unchanged, as databases that already applied it hold its checksum.
+ */
+@Component
+public class ExistingVersionColumnsCallback implements Callback {
+
+    private static final MigrationVersion ENTITY_VERSIONS = MigrationVersion.fromVersion("3");
+    private static final List<String> TABLES = List.of("movies", "actors", "genres");
+    private static final String SET_ASIDE = "version_before_v3";
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_EACH_MIGRATE || event == Event.AFTER_EACH_MIGRATE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        MigrationInfo migration = context.getMigrationInfo();
+        if (migration == null || !ENTITY_VERSIONS.equals(migration.getVersion())) {
+            return;
+        }
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                if (event == Event.BEFORE_EACH_MIGRATE && hasColumn(connection, table, "version")) {
+                    statement.execute("ALTER TABLE " + table + " RENAME COLUMN version TO " + SET_ASIDE);
+                } else if (event == Event.AFTER_EACH_MIGRATE && hasColumn(connection, table, SET_ASIDE)) {
+                    statement.execute("UPDATE " + table + " SET version = " + SET_ASIDE);
+                    statement.execute("ALTER TABLE " + table + " DROP COLUMN " + SET_ASIDE);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not carry existing version columns across V3", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return getClass().getSimpleName();
+    }
+
+    private static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet columns = statement.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (columns.next()) {
+                if (column.equalsIgnoreCase(columns.getString("name"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
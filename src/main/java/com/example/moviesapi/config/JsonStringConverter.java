@@ -0,0 +1,42 @@
+package com.example.moviesapi.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.pattern.CompositeConverter;
+
+/**
+ * Logback conversion word %json(...) of the prod log pattern: escapes its
+ * content for use inside a JSON string.
+ *
+ * Quotes and backslashes are escaped, and so is every control character, so
+ * multi-line messages such as formatted SQL stay on one line.
+ */
+public class JsonStringConverter extends CompositeConverter<ILoggingEvent> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    protected String transform(ILoggingEvent event, String in) {
+        StringBuilder out = null;
+        for (int i = 0; i < in.length(); i++) {
+            char c = in.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                if (out != null) {
+                    out.append(c);
+                }
+                continue;
+            }
+            if (out == null) {
+                out = new StringBuilder(in.length() + 16).append(in, 0, i);
+            }
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        return out == null ? in : out.toString();
+    }
+}
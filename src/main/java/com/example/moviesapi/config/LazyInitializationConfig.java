@@ -0,0 +1,56 @@
+package com.example.moviesapi.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Lazy initialization for beans no request needs at startup.
+ *
+ * Beans whose class (or, for @Bean methods, declaring configuration class) starts
+ * with one of the app.startup.lazy-beans prefixes are created on first use instead
+ * of during refresh: the springdoc OpenAPI/Swagger beans on the first /v3/api-docs
+ * or /swagger-ui request, the metrics endpoints on the first /api/metrics call.
+ * Everything else stays eager, so startup still fails fast on a bad datasource,
+ * mapping or query, and the search indexes are warm before traffic arrives.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        String[] prefixes = environment.getProperty("app.startup.lazy-beans", String[].class, new String[0]);
+        return beanFactory -> {
+            if (prefixes.length == 0) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String type = definingClass(beanFactory, definition);
+                if (type != null && matches(type, prefixes)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static String definingClass(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            return beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private static boolean matches(String type, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (!prefix.isBlank() && type.startsWith(prefix.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.moviesapi.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections requested inside a read-only transaction to the reader pool
+ * and everything else (write transactions, non-transactional work) to the writer.
+ *
+ * The routing decision needs the transaction's read-only flag, which Spring sets
+ * after the transaction manager has asked for a connection, so this data source
+ * must sit behind a LazyConnectionDataSourceProxy.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WRITER = "writer";
+    private static final String READER = "reader";
+
+    public ReadWriteRoutingDataSource(DataSource writer, DataSource reader) {
+        setTargetDataSources(Map.of(WRITER, writer, READER, reader));
+        setDefaultTargetDataSource(writer);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER : WRITER;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.moviesapi.config;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level and query cache, held in this JVM by Caffeine's JCache
+ * provider.
+ *
+ * Actor, Genre and Movie entities and the Movie.genres / Movie.actors link
+ * collections are cached READ_WRITE in the regions named below, each bounded to
+ * max-entries. Repository queries marked cacheable keep their result ids in the
+ * query results region. Hibernate evicts what a write touches: entity updates
+ * their own entries, bulk and native statements the entity regions over the
+ * tables they name (see the native spaces hints in the repositories). Links
+ * written to the join tables are evicted by the services, see SecondLevelCache,
+ * which also reports the hit counts at /api/cache/second-level.
+ *
+ * Disabled with app.cache.second-level.enabled=false. The setting has to be
+ * explicit, because Hibernate turns on any region factory it finds on the
+ * classpath.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Entity and collection regions named in the @Cache annotations of the model
+    public static final List<String> REGIONS = List.of("actors", "genres", "movies", "movie-genres", "movie-actors");
+
+    @Value("${app.cache.second-level.max-entries:20000}")
+    private long maxEntries;
+
+    @Value("${app.cache.second-level.query-max-entries:2000}")
+    private long queryMaxEntries;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        for (String region : REGIONS) {
+            create(cacheManager, region, OptionalLong.of(maxEntries));
+        }
+        create(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, OptionalLong.of(queryMaxEntries));
+        // One entry per table; never evicted, or cached query results could outlive a write
+        create(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, OptionalLong.empty());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(ObjectProvider<CacheManager> hibernateCacheManager) {
+        CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheManager != null);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, cacheManager != null);
+            if (cacheManager != null) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+                // Every region is created above with a size limit; an unknown one is a mapping error
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+                hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            }
+        };
+    }
+
+    private static void create(CacheManager cacheManager, String name, OptionalLong maximumSize) {
+        // The provider's default manager is shared by every application context in the JVM
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        // Hibernate's cache entries are immutable; copying them on every read would only cost time
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
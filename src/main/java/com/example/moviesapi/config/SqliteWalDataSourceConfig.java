@@ -0,0 +1,112 @@
+package com.example.moviesapi.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * SQLite in WAL mode with one writer connection and a pool of read-only connections.
+ *
+ * WAL lets readers run while the writer commits, so @Transactional(readOnly = true)
+ * service methods are served by a reader pool sized to the machine, while all
+ * writes are serialized through a single connection (SQLite allows one writer at
+ * a time anyway; queuing on the pool is cheaper than SQLITE_BUSY retries).
+ *
+ * Enabled with app.datasource.wal.enabled=true; otherwise Spring Boot's single
+ * Hikari pool from spring.datasource.* is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.wal.enabled", havingValue = "true")
+public class SqliteWalDataSourceConfig {
+
+    @Value("${app.datasource.wal.read-pool-size:0}")
+    private int readPoolSize;
+
+    @Value("${app.datasource.wal.synchronous:NORMAL}")
+    private String synchronous;
+
+    // Negative values are KiB, as in PRAGMA cache_size
+    @Value("${app.datasource.wal.cache-size:-16000}")
+    private int cacheSize;
+
+    @Value("${app.datasource.wal.mmap-size:268435456}")
+    private long mmapSize;
+
+    @Value("${app.datasource.wal.busy-timeout:5000}")
+    private int busyTimeout;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    @Bean(destroyMethod = "close", autowireCandidate = false)
+    public HikariDataSource sqliteWriterDataSource(DataSourceProperties properties) {
+        SQLiteConfig sqlite = pragmas();
+        sqlite.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        // Opening the writer first switches the database file to WAL before any reader connects
+        return pool(properties, "sqlite-writer", 1, false, sqlite);
+    }
+
+    @Bean(destroyMethod = "close", autowireCandidate = false)
+    public HikariDataSource sqliteReaderDataSource(DataSourceProperties properties) {
+        SQLiteConfig sqlite = pragmas();
+        sqlite.setReadOnly(true);
+        int size = readPoolSize > 0 ? readPoolSize : Runtime.getRuntime().availableProcessors();
+        return pool(properties, "sqlite-reader", size, true, sqlite);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource writer = sqliteWriterDataSource(properties);
+        HikariDataSource reader = sqliteReaderDataSource(properties);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(writer, reader));
+    }
+
+    /**
+     * Hibernate normally holds a connection for the whole session, which with
+     * open-in-view is the whole request; a request that reads and then writes
+     * would keep using the reader. Releasing after each transaction lets every
+     * transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private SQLiteConfig pragmas() {
+        SQLiteConfig sqlite = new SQLiteConfig();
+        sqlite.setSynchronous(SQLiteConfig.SynchronousMode.valueOf(synchronous.toUpperCase()));
+        sqlite.setCacheSize(cacheSize);
+        sqlite.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSize));
+        sqlite.setBusyTimeout(busyTimeout);
+        return sqlite;
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String name, int size, boolean readOnly,
+                                  SQLiteConfig sqlite) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(properties.determineUrl());
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setMaximumPoolSize(size);
+        config.setMinimumIdle(size);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setReadOnly(readOnly);
+        config.setDataSourceProperties(sqlite.toProperties());
+        return new HikariDataSource(config);
+    }
+}
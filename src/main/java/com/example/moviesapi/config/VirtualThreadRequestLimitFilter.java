@@ -0,0 +1,59 @@
+package com.example.moviesapi.config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caps the number of requests in progress when Tomcat runs on virtual threads.
+ *
+ * With platform threads, Tomcat's worker pool (server.tomcat.threads.max) bounds
+ * concurrency and further connections wait in the accept queue. The virtual thread
+ * executor is unbounded, so every open connection becomes a request in progress. All
+ * of them then queue on the small SQLite connection pool, where Hikari times them
+ * out after connection-timeout and hands connections to whichever waiter polls
+ * first. This filter restores the bound. Excess requests park in FIFO order on a fair
+ * semaphore, which costs nothing while parked, and never pins a carrier. Only the
+ * admitted ones compete for a connection.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadRequestLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    public VirtualThreadRequestLimitFilter(
+            @Value("${app.threads.virtual.max-concurrent-requests:${server.tomcat.threads.max:200}}") int maxConcurrentRequests) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.moviesapi.config;
 
+import com.example.moviesapi.controller.ConditionalGet;
 import com.example.moviesapi.metrics.MetricsInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -9,13 +10,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final MetricsInterceptor metricsInterceptor;
+    private final ConditionalGet conditionalGet;
 
-    public WebConfig(MetricsInterceptor metricsInterceptor) {
+    public WebConfig(MetricsInterceptor metricsInterceptor, ConditionalGet conditionalGet) {
         this.metricsInterceptor = metricsInterceptor;
+        this.conditionalGet = conditionalGet;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(metricsInterceptor);
+        registry.addInterceptor(conditionalGet);
     }
 }
\ No newline at end of file
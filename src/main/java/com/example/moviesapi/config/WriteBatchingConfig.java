@@ -0,0 +1,34 @@
+package com.example.moviesapi.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.example.moviesapi.support.BatchedWrite;
+import com.example.moviesapi.support.WriteBatcher;
+
+@Configuration
+public class WriteBatchingConfig {
+
+    /**
+     * Routes @BatchedWrite methods through the WriteBatcher. Ordered ahead of the
+     * transaction advisor so the method's own @Transactional runs on the batch
+     * thread and joins the batch transaction.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor batchedWriteAdvisor(ObjectProvider<WriteBatcher> writeBatcher) {
+        MethodInterceptor interceptor = invocation -> writeBatcher.getObject().submit(invocation);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(BatchedWrite.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.moviesapi.controller;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -8,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -17,14 +20,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.moviesapi.dto.ActorResponse;
 import com.example.moviesapi.model.Actor;
 import com.example.moviesapi.model.Movie;
 import com.example.moviesapi.service.ActorService;
+import com.example.moviesapi.support.BackgroundWrites;
 
 import jakarta.validation.Valid;
 
@@ -34,10 +40,12 @@ import jakarta.validation.Valid;
 public class ActorController {
 
     private final ActorService actorService;
+    private final BackgroundWrites backgroundWrites;
 
     @Autowired
-    public ActorController(ActorService actorService) {
+    public ActorController(ActorService actorService, BackgroundWrites backgroundWrites) {
         this.actorService = actorService;
+        this.backgroundWrites = backgroundWrites;
     }
 
     // CREATE - POST /api/actors 
@@ -66,10 +74,11 @@ public class ActorController {
 
     // READ BY ID - GET /api/actors/{id}
     @GetMapping("/{id}")
-    public ResponseEntity<?> getActorById(@PathVariable Long id) {
+    public ResponseEntity<?> getActorById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Actor actor = actorService.getActorById(id);
-            return ResponseEntity.ok(actor);
+            return ConditionalGet.entity(ifNoneMatch, ConditionalGet.part(actor), actor);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("error", "Actor not found with id: " + id));
@@ -99,8 +108,20 @@ public class ActorController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteActor(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "false") boolean force) {
+            @RequestParam(defaultValue = "false") boolean force,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
+            if (async) {
+                // Only a forced delete cannot be refused, so only it may finish after the response
+                if (!force) {
+                    return ResponseEntity.badRequest()
+                        .body(Map.of("error", "async=true requires force=true"));
+                }
+                actorService.getActorById(id);
+                backgroundWrites.submit("delete actor " + id, () -> actorService.deleteActor(id, true));
+                return ResponseEntity.accepted()
+                    .body(Map.of("message", "Actor " + id + " is being deleted"));
+            }
             actorService.deleteActor(id, force);
             return ResponseEntity.noContent().build();
         } catch (IllegalStateException e) {
@@ -132,6 +153,28 @@ public class ActorController {
         }
     }
 
+    // ADVANCED SEARCH - GET /api/actors/advanced-search?name=&minBirthDate=&maxBirthDate= (dates as yyyy-MM-dd)
+    @GetMapping("/advanced-search")
+    public ResponseEntity<?> advancedSearchActors(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate minBirthDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate maxBirthDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<Actor> actors = actorService.advancedSearch(name, minBirthDate, maxBirthDate, pageable);
+            return ResponseEntity.ok(actors);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Advanced search failed: " + e.getMessage()));
+        }
+    }
+
     // GET MOVIES BY ACTOR - GET /api/actors/{id}/movies
     @GetMapping("/{id}/movies")
     public ResponseEntity<?> getMoviesByActorId(@PathVariable Long id) {
@@ -163,6 +206,45 @@ public class ActorController {
         }
     }
 
+    // SUMMARIES - GET /api/actors/summaries (DTO projection, no entity hydration)
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getActorSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<ActorResponse> actors = actorService.getActorSummaries(pageable);
+            return ResponseEntity.ok(actors);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Failed to retrieve actor summaries: " + e.getMessage()));
+        }
+    }
+
+    // SEARCH SUMMARIES - GET /api/actors/summaries/search?name={name}
+    @GetMapping("/summaries/search")
+    public ResponseEntity<?> searchActorSummariesByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<ActorResponse> actors = actorService.searchActorSummariesByName(name, pageable);
+            return ResponseEntity.ok(actors);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Search failed: " + e.getMessage()));
+        }
+    }
+
     // CHECK IF ACTOR EXISTS - GET /api/actors/{id}/exists
     @GetMapping("/{id}/exists")
     public ResponseEntity<Boolean> actorExists(@PathVariable Long id) {
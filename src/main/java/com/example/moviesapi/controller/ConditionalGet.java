@@ -0,0 +1,196 @@
+package com.example.moviesapi.controller;
+
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.example.moviesapi.model.Actor;
+import com.example.moviesapi.model.Genre;
+import com.example.moviesapi.model.Movie;
+import com.example.moviesapi.support.CatalogVersion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conditional GET for the movie, actor and genre endpoints.
+ *
+ * Every successful GET carries a weak ETag that ends in the catalog tag of
+ * {@link CatalogVersion}, plus a Last-Modified for the same state. As long as no
+ * write has committed since, a request presenting that ETag (or a later
+ * If-Modified-Since) is answered 304 in preHandle, before the controller runs:
+ * no query and no serialization.
+ *
+ * Single-entity GETs go one step further through {@link #entity}: their ETag
+ * starts with the entity's row versions, so after unrelated writes the entity is
+ * still loaded but answered 304 without serializing it.
+ *
+ * ETags look like W/"c.EPOCH.COUNT", or W/"m12-3-7.EPOCH.COUNT" for GET
+ * /api/movies/12 at version 3 whose genres and actors sum to version 7.
+ */
+@ControllerAdvice(assignableTypes = {MovieController.class, ActorController.class, GenreController.class})
+public class ConditionalGet implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final Set<Class<?>> CONTROLLERS = Set.of(MovieController.class, ActorController.class, GenreController.class);
+    private static final String CATALOG_ATTRIBUTE = ConditionalGet.class.getName() + ".catalog";
+    private static final String COLLECTION = "c";
+
+    private final CatalogVersion catalogVersion;
+
+    public ConditionalGet(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !CONTROLLERS.contains(method.getBeanType())
+                || !isGetOrHead(request.getMethod())) {
+            return true;
+        }
+
+        CatalogVersion.Snapshot catalog = catalogVersion.current();
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String current = matchingCatalogTag(ifNoneMatch, catalog);
+            if (current != null) {
+                notModified(response, current, catalog);
+                return false;
+            }
+        } else if (ifModifiedSince(request) >= catalog.lastModified()) {
+            notModified(response, null, catalog);
+            return false;
+        }
+
+        // Responses are tagged with the state read here, a write committing meanwhile
+        // only makes the next revalidation miss
+        request.setAttribute(CATALOG_ATTRIBUTE, catalog);
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || !(servletRequest.getServletRequest().getAttribute(CATALOG_ATTRIBUTE) instanceof CatalogVersion.Snapshot catalog)
+                || !HttpStatus.valueOf(servletResponse.getServletResponse().getStatus()).is2xxSuccessful()) {
+            return body;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (headers.getETag() == null) {
+            headers.setETag(tag(COLLECTION, catalog));
+            headers.setLastModified(catalog.lastModified());
+        }
+        return body;
+    }
+
+    /**
+     * Response for a single entity: 304 when the client's ETag was issued for the
+     * same version of the entity, otherwise 200 with the body and a fresh ETag.
+     */
+    public static ResponseEntity<Object> entity(String ifNoneMatch, String entityPart, Object body) {
+        CatalogVersion.Snapshot catalog = (CatalogVersion.Snapshot) RequestContextHolder.currentRequestAttributes()
+            .getAttribute(CATALOG_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (catalog == null) {
+            return ResponseEntity.ok(body);
+        }
+        String tag = tag(entityPart, catalog);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                if (opaque(candidate).startsWith(entityPart + ".")) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+                }
+            }
+        }
+        return ResponseEntity.ok().eTag(tag).body(body);
+    }
+
+    public static String part(Movie movie) {
+        // Adding or removing a genre or actor bumps the movie's own version; the sum
+        // of theirs catches renames, since row versions only ever grow
+        long related = 0;
+        for (Genre genre : movie.getGenres()) {
+            related += genre.getVersion();
+        }
+        for (Actor actor : movie.getActors()) {
+            related += actor.getVersion();
+        }
+        return "m" + movie.getId() + "-" + movie.getVersion() + "-" + related;
+    }
+
+    public static String part(Actor actor) {
+        return "a" + actor.getId() + "-" + actor.getVersion();
+    }
+
+    public static String part(Genre genre) {
+        return "g" + genre.getId() + "-" + genre.getVersion();
+    }
+
+    private static boolean isGetOrHead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    // The client's tag if it was issued for the current catalog state, else null
+    private static String matchingCatalogTag(String ifNoneMatch, CatalogVersion.Snapshot catalog) {
+        String suffix = "." + catalog.tag();
+        for (String candidate : ifNoneMatch.split(",")) {
+            String opaque = opaque(candidate);
+            if (opaque.endsWith(suffix) && opaque.length() > suffix.length()) {
+                return "W/\"" + opaque + "\"";
+            }
+        }
+        return null;
+    }
+
+    private static String opaque(String tag) {
+        String trimmed = tag.trim();
+        if (trimmed.startsWith("W/")) {
+            trimmed = trimmed.substring(2);
+        }
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static long ifModifiedSince(HttpServletRequest request) {
+        try {
+            return request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static String tag(String part, CatalogVersion.Snapshot catalog) {
+        return "W/\"" + part + "." + catalog.tag() + "\"";
+    }
+
+    private static void notModified(HttpServletResponse response, String etag, CatalogVersion.Snapshot catalog) {
+        response.setStatus(HttpStatus.NOT_MODIFIED.value());
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, catalog.lastModified());
+    }
+}
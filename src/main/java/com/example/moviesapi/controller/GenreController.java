@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -17,13 +18,16 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.moviesapi.dto.GenreResponse;
 import com.example.moviesapi.model.Genre;
 import com.example.moviesapi.model.Movie;
 import com.example.moviesapi.service.GenreService;
+import com.example.moviesapi.support.BackgroundWrites;
 
 import jakarta.validation.Valid;
 
@@ -33,10 +37,12 @@ import jakarta.validation.Valid;
 public class GenreController {
 
     private final GenreService genreService;
+    private final BackgroundWrites backgroundWrites;
 
     @Autowired
-    public GenreController(GenreService genreService) {
+    public GenreController(GenreService genreService, BackgroundWrites backgroundWrites) {
         this.genreService = genreService;
+        this.backgroundWrites = backgroundWrites;
     }
 
     // CREATE
@@ -77,12 +83,32 @@ public class GenreController {
         }
     }
 
+    // READ - Lightweight summaries with movie count (DTO projection)
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getGenreSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<GenreResponse> genres = genreService.getGenreSummaries(pageable);
+            return ResponseEntity.ok(genres);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Failed to retrieve genre summaries: " + e.getMessage()));
+        }
+    }
+
     // READ - Genre by ID
     @GetMapping("/{id}")
-    public ResponseEntity<?> getGenreById(@PathVariable Long id) {
+    public ResponseEntity<?> getGenreById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Genre genre = genreService.getGenreById(id);
-            return ResponseEntity.ok(genre);
+            return ConditionalGet.entity(ifNoneMatch, ConditionalGet.part(genre), genre);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("error", "Genre not found with id: " + id));
@@ -188,8 +214,20 @@ public class GenreController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteGenre(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "false") boolean force) {
+            @RequestParam(defaultValue = "false") boolean force,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
+            if (async) {
+                // Only a forced delete cannot be refused, so only it may finish after the response
+                if (!force) {
+                    return ResponseEntity.badRequest()
+                        .body(Map.of("error", "async=true requires force=true"));
+                }
+                genreService.getGenreById(id);
+                backgroundWrites.submit("delete genre " + id, () -> genreService.deleteGenre(id, true));
+                return ResponseEntity.accepted()
+                    .body(Map.of("message", "Genre " + id + " is being deleted"));
+            }
             genreService.deleteGenre(id, force);
             return ResponseEntity.noContent().build();
         } catch (IllegalStateException e) {
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,13 +17,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.moviesapi.dto.MovieResponse;
 import com.example.moviesapi.model.Actor;
 import com.example.moviesapi.model.Genre;
 import com.example.moviesapi.model.Movie;
+import com.example.moviesapi.search.FacetQuery;
+import com.example.moviesapi.search.FacetResult;
 import com.example.moviesapi.service.MovieService;
 
 import jakarta.validation.Valid;
@@ -92,12 +97,52 @@ public class MovieController {
         }
     }
 
+    // READ - Lightweight summaries (DTO projection, genre/actor names only)
+    @GetMapping("/summaries")
+    public ResponseEntity<?> getMovieSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<MovieResponse> movies = movieService.getMovieSummaries(pageable);
+            return ResponseEntity.ok(movies);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Failed to retrieve movie summaries: " + e.getMessage()));
+        }
+    }
+
+    // SEARCH - Lightweight summaries by title
+    @GetMapping("/summaries/search")
+    public ResponseEntity<?> searchMovieSummariesByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            Pageable pageable = PageRequest.of(page, size);
+            Page<MovieResponse> movies = movieService.searchMovieSummariesByTitle(title, pageable);
+            return ResponseEntity.ok(movies);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Search failed: " + e.getMessage()));
+        }
+    }
+
     // READ - Movie by ID
     @GetMapping("/{id}")
-    public ResponseEntity<?> getMovieById(@PathVariable Long id) {
+    public ResponseEntity<?> getMovieById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Movie movie = movieService.getMovieById(id);
-            return ResponseEntity.ok(movie);
+            return ConditionalGet.entity(ifNoneMatch, ConditionalGet.part(movie), movie);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(Map.of("error", "Movie not found with id: " + id));
@@ -268,6 +313,36 @@ public class MovieController {
         }
     }
 
+    // FACETED SEARCH
+    // genres/actors must all match, anyGenres/anyActors at least one, notGenres/notActors none;
+    // decades (e.g. 1990) and durations (e.g. 90-119) match any of the listed values
+    @GetMapping("/facets")
+    public ResponseEntity<?> facetedSearchMovies(
+            @RequestParam(required = false) List<Long> genres,
+            @RequestParam(required = false) List<Long> anyGenres,
+            @RequestParam(required = false) List<Long> notGenres,
+            @RequestParam(required = false) List<Long> actors,
+            @RequestParam(required = false) List<Long> anyActors,
+            @RequestParam(required = false) List<Long> notActors,
+            @RequestParam(required = false) List<Integer> decades,
+            @RequestParam(required = false) List<String> durations,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (page < 0 || size <= 0 || size > 100) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid pagination parameters: page must be >= 0, size between 1 and 100"));
+            }
+            FacetQuery query = new FacetQuery(genres, anyGenres, notGenres, actors, anyActors, notActors,
+                decades, durations);
+            FacetResult<Movie> result = movieService.facetSearch(query, PageRequest.of(page, size));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "Faceted search failed: " + e.getMessage()));
+        }
+    }
+
     // UPDATE
     @PatchMapping("/{id}")
     public ResponseEntity<?> updateMovie(
@@ -393,6 +468,12 @@ public class MovieController {
         }
     }
 
+    // STATISTICS - Movie count per release year, latest first
+    @GetMapping("/stats/by-year")
+    public ResponseEntity<List<Object[]>> getMovieCountsByReleaseYear() {
+        return ResponseEntity.ok(movieService.getMovieCountsByReleaseYear());
+    }
+
     // STATISTICS - Latest movies
     @GetMapping("/stats/latest")
     public ResponseEntity<?> getLatestMovies(
@@ -1,25 +1,25 @@
 package com.example.moviesapi.converter;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+/**
+ * Stores dates as days since 1970-01-01 (LocalDate.toEpochDay) in an INTEGER
+ * column, so range predicates compare numbers through the index and reading a
+ * row does no string parsing. See V4__actor_birth_date_epoch_day.sql.
+ */
 @Converter(autoApply = true)
-public class LocalDateAttributeConverter implements AttributeConverter<LocalDate, String> {
+public class LocalDateAttributeConverter implements AttributeConverter<LocalDate, Long> {
 
     @Override
-    public String convertToDatabaseColumn(LocalDate localDate) {
-        return Optional.ofNullable(localDate)
-                .map(LocalDate::toString)
-                .orElse(null);
+    public Long convertToDatabaseColumn(LocalDate localDate) {
+        return localDate == null ? null : localDate.toEpochDay();
     }
 
     @Override
-    public LocalDate convertToEntityAttribute(String dateString) {
-        return Optional.ofNullable(dateString)
-                .map(LocalDate::parse)
-                .orElse(null);
+    public LocalDate convertToEntityAttribute(Long epochDay) {
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
     }
-}
\ No newline at end of file
+}
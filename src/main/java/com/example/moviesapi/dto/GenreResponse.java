@@ -21,6 +21,13 @@ public class GenreResponse {
         this.name = name;
     }
 
+    // Used by the JPQL constructor projection in GenreRepository
+    public GenreResponse(Long id, String name, Long movieCount) {
+        this.id = id;
+        this.name = name;
+        this.movieCount = movieCount != null ? movieCount.intValue() : 0;
+    }
+
     // Static factory method from Entity
     public static GenreResponse fromEntity(com.example.moviesapi.model.Genre genre) {
         GenreResponse response = new GenreResponse();
@@ -0,0 +1,17 @@
+package com.example.moviesapi.dto;
+
+/**
+ * Projection for the grouped relation-name query in MovieRepository.
+ * One row per movie and relation: kind is 'G' (genres) or 'A' (actors) and
+ * names holds the related names joined by the ASCII unit separator (char 31).
+ */
+public interface RelationNamesView {
+
+    String NAME_SEPARATOR = "\u001F";
+
+    Long getMovieId();
+
+    String getKind();
+
+    String getNames();
+}
@@ -4,26 +4,49 @@ import org.springframework.stereotype.Service;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Call counts per endpoint.
+ *
+ * Each endpoint has its own LongAdder, which stripes increments across cells
+ * when threads collide, so concurrent requests do not contend on one counter.
+ * MetricsInterceptor resolves the counter of every handler method once at
+ * startup; the total is summed when the stats are read.
+ */
 @Service
 public class ApiMetricsService {
-    private final Map<String, AtomicLong> endpointCallCounts = new ConcurrentHashMap<>();
-    private final AtomicLong totalApiCalls = new AtomicLong(0);
+    private final Map<String, LongAdder> endpointCallCounts = new ConcurrentHashMap<>();
     private final long startTime = System.currentTimeMillis();
 
+    /**
+     * Returns the counter for the endpoint, creating it on first use.
+     */
+    public LongAdder counter(String endpoint) {
+        LongAdder counter = endpointCallCounts.get(endpoint);
+        return counter != null ? counter : endpointCallCounts.computeIfAbsent(endpoint, k -> new LongAdder());
+    }
+
     public void recordApiCall(String endpoint) {
-        endpointCallCounts.computeIfAbsent(endpoint, k -> new AtomicLong(0)).incrementAndGet();
-        totalApiCalls.incrementAndGet();
+        counter(endpoint).increment();
     }
 
     public Map<String, Object> getMetrics() {
         Map<String, Object> metrics = new java.util.HashMap<>();
-        
-        metrics.put("totalApiCalls", totalApiCalls.get());
+        Map<String, Long> endpointStats = new java.util.HashMap<>();
+        long totalApiCalls = 0;
+        for (Map.Entry<String, LongAdder> entry : endpointCallCounts.entrySet()) {
+            long calls = entry.getValue().sum();
+            if (calls > 0) {
+                endpointStats.put(entry.getKey(), calls);
+                totalApiCalls += calls;
+            }
+        }
+
+        metrics.put("totalApiCalls", totalApiCalls);
         metrics.put("uptime", (System.currentTimeMillis() - startTime) / 1000 + " seconds");
-        metrics.put("endpointStats", new java.util.HashMap<>(endpointCallCounts));
-        
+        metrics.put("endpointStats", endpointStats);
+
         return metrics;
     }
 
@@ -33,7 +56,7 @@ public class ApiMetricsService {
         health.put("timestamp", java.time.Instant.now().toString());
         health.put("memoryUsage", 
             (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024) + " MB");
-        health.put("activeEndpoints", endpointCallCounts.size());
+        health.put("activeEndpoints", endpointCallCounts.values().stream().filter(counter -> counter.sum() > 0).count());
         return health;
     }
-}
\ No newline at end of file
+}
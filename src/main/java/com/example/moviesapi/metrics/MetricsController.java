@@ -5,6 +5,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.moviesapi.service.ExistenceFilters;
+import com.example.moviesapi.support.BackgroundWrites;
+import com.example.moviesapi.support.WriteBatcher;
+
 import java.util.Map;
 
 @RestController
@@ -12,9 +16,19 @@ import java.util.Map;
 public class MetricsController {
 
     private final ApiMetricsService metricsService;
+    private final WriteBatcher writeBatcher;
+    private final VirtualThreadMonitor virtualThreadMonitor;
+    private final BackgroundWrites backgroundWrites;
+    private final ExistenceFilters existenceFilters;
 
-    public MetricsController(ApiMetricsService metricsService) {
+    public MetricsController(ApiMetricsService metricsService, WriteBatcher writeBatcher,
+                             VirtualThreadMonitor virtualThreadMonitor, BackgroundWrites backgroundWrites,
+                             ExistenceFilters existenceFilters) {
         this.metricsService = metricsService;
+        this.writeBatcher = writeBatcher;
+        this.virtualThreadMonitor = virtualThreadMonitor;
+        this.backgroundWrites = backgroundWrites;
+        this.existenceFilters = existenceFilters;
     }
 
     @GetMapping("/stats")
@@ -27,6 +41,26 @@ public class MetricsController {
         return ResponseEntity.ok(metricsService.getHealth());
     }
 
+    @GetMapping("/write-batching")
+    public ResponseEntity<Map<String, Object>> getWriteBatchingStats() {
+        return ResponseEntity.ok(writeBatcher.getStats());
+    }
+
+    @GetMapping("/background-writes")
+    public ResponseEntity<Map<String, Object>> getBackgroundWriteStats() {
+        return ResponseEntity.ok(backgroundWrites.getStats());
+    }
+
+    @GetMapping("/existence-filters")
+    public ResponseEntity<Map<String, Object>> getExistenceFilterStats() {
+        return ResponseEntity.ok(existenceFilters.getStats());
+    }
+
+    @GetMapping("/virtual-threads")
+    public ResponseEntity<Map<String, Object>> getVirtualThreadStats() {
+        return ResponseEntity.ok(virtualThreadMonitor.getStats());
+    }
+
     @GetMapping("/reset")
     public ResponseEntity<Map<String, Object>> resetStats() {
         // In a real app, you might not want this, but it's useful for testing
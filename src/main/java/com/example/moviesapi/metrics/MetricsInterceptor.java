@@ -1,26 +1,100 @@
 package com.example.moviesapi.metrics;
 
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts calls per handler method, e.g. "GET /api/movies/{id}".
+ *
+ * The counter of every mapped controller method is looked up once, after the
+ * handler mappings are built. A request then costs one identity-map lookup on
+ * the handler's Method and one LongAdder increment: no string work, no
+ * allocation, and no counter shared by all requests. Calls served by other
+ * handlers (static resources) share one counter.
+ */
 @Component
-public class MetricsInterceptor implements HandlerInterceptor {
+public class MetricsInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    static final String OTHER = "other";
+
+    // Not tracked, so reading the stats does not change them
+    private static final String METRICS_PATH = "/api/metrics";
 
     private final ApiMetricsService metricsService;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final LongAdder other;
+
+    // Written once at startup, read-only afterwards
+    private volatile Map<Method, LongAdder> counters = Map.of();
 
-    public MetricsInterceptor(ApiMetricsService metricsService) {
+    public MetricsInterceptor(ApiMetricsService metricsService,
+                              ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
         this.metricsService = metricsService;
+        this.handlerMappings = handlerMappings;
+        this.other = metricsService.counter(OTHER);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream().forEach(mapping -> register(mapping.getHandlerMethods()));
+    }
+
+    /**
+     * Resolves the counter of each handler method; called with the contents of the
+     * application's request mappings.
+     */
+    public void register(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        Map<Method, LongAdder> resolved = new IdentityHashMap<>(counters);
+        handlerMethods.forEach((info, handlerMethod) -> {
+            String endpoint = endpoint(info);
+            if (endpoint != null) {
+                resolved.put(handlerMethod.getMethod(), metricsService.counter(endpoint));
+            }
+        });
+        counters = resolved;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String endpoint = request.getRequestURI();
-        // Don't track metrics endpoints themselves to avoid infinite recursion
-        if (!endpoint.startsWith("/api/metrics")) {
-            metricsService.recordApiCall(endpoint);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            // Metrics endpoints have no counter
+            LongAdder counter = counters.get(handlerMethod.getMethod());
+            if (counter != null) {
+                counter.increment();
+            }
+        } else {
+            other.increment();
         }
         return true;
     }
-}
\ No newline at end of file
+
+    // "GET|POST /api/movies", or null for the metrics endpoints
+    private static String endpoint(RequestMappingInfo info) {
+        Set<String> patterns = new TreeSet<>(info.getPatternValues());
+        if (patterns.isEmpty() || patterns.stream().allMatch(pattern -> pattern.startsWith(METRICS_PATH))) {
+            return null;
+        }
+        Set<String> methods = new TreeSet<>();
+        for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+            methods.add(method.name());
+        }
+        String path = String.join(" || ", patterns);
+        return methods.isEmpty() ? path : String.join("|", methods) + " " + path;
+    }
+}
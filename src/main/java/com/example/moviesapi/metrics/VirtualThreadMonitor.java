@@ -0,0 +1,116 @@
+package com.example.moviesapi.metrics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Reports virtual threads that blocked while pinned to their carrier.
+ *
+ * A virtual thread that parks inside a synchronized block or a native frame keeps
+ * its carrier thread, so with a handful of carriers a few pinned waits stall every
+ * request. The JDK reports each such wait longer than the threshold as a
+ * jdk.VirtualThreadPinned JFR event; this component streams those events in
+ * process, counts them per call site and logs each new site once.
+ *
+ * Only active when spring.threads.virtual.enabled=true.
+ */
+@Component
+public class VirtualThreadMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int TOP_SITES = 10;
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+                                @Value("${app.threads.virtual.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("virtualThreads", enabled);
+        stats.put("thresholdMs", threshold.toMillis());
+        stats.put("pinnedEvents", pinnedEvents.sum());
+        stats.put("pinnedMs", pinnedNanos.sum() / 1_000_000);
+        Map<String, Long> top = new LinkedHashMap<>();
+        sites.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+            .limit(TOP_SITES)
+            .forEach(e -> top.put(e.getKey(), e.getValue().sum()));
+        stats.put("sites", top);
+        return stats;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        // Events are delivered on the stream's single thread
+        String site = site(event);
+        LongAdder count = sites.get(site);
+        if (count == null) {
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+            count = new LongAdder();
+            sites.put(site, count);
+        }
+        count.increment();
+    }
+
+    // First frame outside the JDK, i.e. the library or application code that held the monitor
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk";
+    }
+}
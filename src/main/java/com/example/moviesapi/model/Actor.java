@@ -4,24 +4,36 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "actors")
+@Table(name = "actors", indexes = {
+    @Index(name = "idx_actors_name_birth_date", columnList = "name, birth_date"),
+    @Index(name = "idx_actors_birth_date", columnList = "birth_date")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "actors")
 public class Actor {
     
     @Id
@@ -36,9 +48,17 @@ public class Actor {
     @NotNull(message = "Birth date is required")
     @Past(message = "Birth date must be in the past")
     @JsonFormat(pattern = "yyyy-MM-dd")
-    @Column(name = "birth_date", nullable = false, columnDefinition = "VARCHAR(255)")
+    @Column(name = "birth_date", nullable = false, columnDefinition = "INTEGER")
     private LocalDate birthDate;
 
+    // Incremented by Hibernate on every update. Identifies the
+    // representation in ETags; not part of the JSON.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private long version;
+
     @ManyToMany(mappedBy = "actors", fetch = FetchType.LAZY)
     @JsonIgnore
     private Set<Movie> movies = new HashSet<>();
@@ -82,6 +102,10 @@ public class Actor {
         this.birthDate = birthDate;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Set<Movie> getMovies() {
         return movies;
     }
@@ -124,11 +148,11 @@ public class Actor {
         if (this == o) return true;
         if (!(o instanceof Actor)) return false;
         Actor actor = (Actor) o;
-        return id != null && id.equals(actor.id);
+        return id != null && id.equals(actor.getId());
     }
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return id == null ? 0 : Long.hashCode(id);
     }
 }
\ No newline at end of file
@@ -3,21 +3,30 @@ package com.example.moviesapi.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "genres")
+@Table(name = "genres", indexes = @Index(name = "idx_genres_name", columnList = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "genres")
 public class Genre {
     
     @Id
@@ -30,6 +39,14 @@ public class Genre {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // Incremented by Hibernate on every update. Identifies the
+    // representation in ETags; not part of the JSON.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private long version;
+
     @ManyToMany(mappedBy = "genres", fetch = FetchType.LAZY)
     @JsonIgnore
     private Set<Movie> movies = new HashSet<>();
@@ -63,6 +80,10 @@ public class Genre {
         this.name = name;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Set<Movie> getMovies() {
         return movies;
     }
@@ -104,11 +125,11 @@ public class Genre {
         if (this == o) return true;
         if (!(o instanceof Genre)) return false;
         Genre genre = (Genre) o;
-        return id != null && id.equals(genre.id);
+        return id != null && id.equals(genre.getId());
     }
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return id == null ? 0 : Long.hashCode(id);
     }
 }
\ No newline at end of file
@@ -3,16 +3,26 @@ package com.example.moviesapi.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -20,7 +30,17 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "movies")
+// Indexes mirror db/migration/V2__secondary_indexes.sql so ddl-auto=create gets the same access
+// paths. Uniqueness and the upper(name) expression indexes live only in the migration, since the
+// SQLite dialect renders unique indexes as ALTER TABLE constraints, which SQLite does not support.
+@Table(name = "movies", indexes = {
+    @Index(name = "idx_movies_title_release_year", columnList = "title, release_year"),
+    @Index(name = "idx_movies_release_year", columnList = "release_year"),
+    @Index(name = "idx_movies_duration", columnList = "duration")
+})
+// Second-level cache regions are configured in SecondLevelCacheConfig
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "movies")
 public class Movie {
     
     @Id
@@ -43,19 +63,37 @@ public class Movie {
     @Column(name = "duration", nullable = false)
     private Integer duration; // in minutes
 
+    // Incremented by Hibernate on every update, including changes to the movie's
+    // genre and actor links, and by MovieRepository#incrementVersion when the join
+    // tables are written directly. Identifies the representation in ETags; not
+    // part of the JSON.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private long version;
+
+    // Lazy, but loaded in IN-list batches for a whole page of movies (see MovieService#withRelations);
+    // the batch skips movies whose link ids are already in the second-level cache
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "movie-genres")
     @JoinTable(
         name = "movie_genres",
         joinColumns = @JoinColumn(name = "movie_id"),
-        inverseJoinColumns = @JoinColumn(name = "genre_id")
+        inverseJoinColumns = @JoinColumn(name = "genre_id"),
+        indexes = @Index(name = "idx_movie_genres_movie", columnList = "movie_id, genre_id")
     )
     private Set<Genre> genres = new HashSet<>();
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "movie-actors")
     @JoinTable(
         name = "movie_actors",
         joinColumns = @JoinColumn(name = "movie_id"),
-        inverseJoinColumns = @JoinColumn(name = "actor_id")
+        inverseJoinColumns = @JoinColumn(name = "actor_id"),
+        indexes = @Index(name = "idx_movie_actors_movie", columnList = "movie_id, actor_id")
     )
     private Set<Actor> actors = new HashSet<>();
 
@@ -108,6 +146,10 @@ public class Movie {
         this.duration = duration;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Set<Genre> getGenres() {
         return genres;
     }
@@ -178,11 +220,14 @@ public class Movie {
         if (this == o) return true;
         if (!(o instanceof Movie)) return false;
         Movie movie = (Movie) o;
-        return id != null && id.equals(movie.id);
+        // getId() rather than the field: o may be an uninitialized Hibernate proxy
+        return id != null && id.equals(movie.getId());
     }
 
+    // Ids are assigned before an entity is saved or added to a collection (see the
+    // services' findNextAvailableId), so the hash never changes while it is in a set.
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return id == null ? 0 : Long.hashCode(id);
     }
 }
\ No newline at end of file
@@ -3,18 +3,33 @@ package com.example.moviesapi.repository;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.moviesapi.dto.ActorResponse;
 import com.example.moviesapi.model.Actor;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ActorRepository extends JpaRepository<Actor, Long> {
     
+    // Read-only projections: select only the actor columns, no entity hydration
+    @Query("SELECT new com.example.moviesapi.dto.ActorResponse(a.id, a.name, a.birthDate) FROM Actor a")
+    Page<ActorResponse> findAllSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.example.moviesapi.dto.ActorResponse(a.id, a.name, a.birthDate) FROM Actor a " +
+                   "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+           countQuery = "SELECT COUNT(a) FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<ActorResponse> findSummariesByName(@Param("name") String name, Pageable pageable);
+
     // Check if actor with same name and birth date exists
     boolean existsByNameAndBirthDate(String name, LocalDate birthDate);
     
@@ -24,28 +39,53 @@ public interface ActorRepository extends JpaRepository<Actor, Long> {
     // Find actors by exact name (case insensitive)
     List<Actor> findByNameIgnoreCase(String name);
     
-    // Find actors by birth date range
-    List<Actor> findByBirthDateBetween(LocalDate startDate, LocalDate endDate);
-
+    // Result ids cached until the actors table changes; the actors come from the entity cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Actor> findByIdIn(List<Long> ids);
     
     // NEW METHOD: Find the actor with the highest ID
     Actor findTopByOrderByIdDesc();
     
-    // Advanced search with multiple criteria
+    // Advanced search with multiple criteria. A missing date bound becomes the widest
+    // date, so birth_date is always a plain BETWEEN on idx_actors_birth_date instead of
+    // an (:x IS NULL OR ...) predicate SQLite cannot use an index for.
+    default Page<Actor> findBySearchCriteria(String name, LocalDate minBirthDate, LocalDate maxBirthDate,
+                                             Pageable pageable) {
+        return searchWithinBirthDates(name,
+            minBirthDate != null ? minBirthDate : LocalDate.MIN,
+            maxBirthDate != null ? maxBirthDate : LocalDate.MAX,
+            pageable);
+    }
+
     @Query("SELECT a FROM Actor a WHERE " +
            "(:name IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:minBirthDate IS NULL OR a.birthDate >= :minBirthDate) AND " +
-           "(:maxBirthDate IS NULL OR a.birthDate <= :maxBirthDate)")
-    Page<Actor> findBySearchCriteria(@Param("name") String name,
-                                    @Param("minBirthDate") LocalDate minBirthDate,
-                                    @Param("maxBirthDate") LocalDate maxBirthDate,
-                                    Pageable pageable);
+           "a.birthDate BETWEEN :minBirthDate AND :maxBirthDate")
+    Page<Actor> searchWithinBirthDates(@Param("name") String name,
+                                       @Param("minBirthDate") LocalDate minBirthDate,
+                                       @Param("maxBirthDate") LocalDate maxBirthDate,
+                                       Pageable pageable);
     
     // Find actors by movie ID
     @Query("SELECT a FROM Actor a JOIN a.movies m WHERE m.id = :movieId")
     List<Actor> findByMovieId(@Param("movieId") Long movieId);
     
+    // Links of one actor, read and removed on the join table without loading its movies
+    @Query(value = "SELECT movie_id FROM movie_actors WHERE actor_id = :actorId", nativeQuery = true)
+    List<Long> findLinkedMovieIds(@Param("actorId") Long actorId);
+
+    // Run before deleteMovieLinks: losing a cast member changes each linked movie
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movies"))
+    @Query(value = "UPDATE movies SET version = version + 1 " +
+                   "WHERE id IN (SELECT movie_id FROM movie_actors WHERE actor_id = :actorId)",
+           nativeQuery = true)
+    int incrementLinkedMovieVersions(@Param("actorId") Long actorId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_actors"))
+    @Query(value = "DELETE FROM movie_actors WHERE actor_id = :actorId", nativeQuery = true)
+    int deleteMovieLinks(@Param("actorId") Long actorId);
+
     // REQUIRED: Find actors by name with pagination support
     default Page<Actor> findByNameIgnoreCaseContaining(String name, Pageable pageable) {
         return findByNameContainingIgnoreCase(name, pageable);
@@ -3,18 +3,32 @@ package com.example.moviesapi.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.moviesapi.dto.GenreResponse;
 import com.example.moviesapi.model.Genre;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface GenreRepository extends JpaRepository<Genre, Long> {
 
+    // Read-only projection: genre columns plus movie count, counted on the join table only.
+    // Page and total are cached until genres or movie_genres change.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.example.moviesapi.dto.GenreResponse(g.id, g.name, COUNT(m.id)) " +
+                   "FROM Genre g LEFT JOIN g.movies m GROUP BY g.id, g.name ORDER BY g.name",
+           countQuery = "SELECT COUNT(g) FROM Genre g")
+    Page<GenreResponse> findAllSummaries(Pageable pageable);
+
     // Find genre by name (exact match, case-sensitive)
     Optional<Genre> findByName(String name);
 
@@ -30,26 +44,10 @@ public interface GenreRepository extends JpaRepository<Genre, Long> {
     // Find genres by name containing (case-insensitive) with pagination
     Page<Genre> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
-    // Find all genres with movie count
-    @Query("SELECT g, COUNT(m) as movieCount FROM Genre g LEFT JOIN g.movies m GROUP BY g ORDER BY g.name")
-    Page<Object[]> findAllWithMovieCount(Pageable pageable);
-
-    // Find genres with minimum number of movies
-    @Query("SELECT g FROM Genre g WHERE SIZE(g.movies) >= :minMovies")
-    List<Genre> findGenresWithMinimumMovies(@Param("minMovies") int minMovies);
-
-    // Find top genres by movie count
-    @Query("SELECT g, COUNT(m) as movieCount FROM Genre g LEFT JOIN g.movies m GROUP BY g ORDER BY movieCount DESC")
-    Page<Object[]> findTopGenresByMovieCount(Pageable pageable);
-
     // Custom query to find genres by movie ID
     @Query("SELECT g FROM Genre g JOIN g.movies m WHERE m.id = :movieId")
     List<Genre> findByMovieId(@Param("movieId") Long movieId);
 
-    // Find genres with no movies
-    @Query("SELECT g FROM Genre g WHERE g.movies IS EMPTY")
-    List<Genre> findGenresWithNoMovies();
-
     // Bulk check for genre existence by names
     @Query("SELECT g FROM Genre g WHERE g.name IN :names")
     List<Genre> findByNames(@Param("names") List<String> names);
@@ -59,4 +57,21 @@ public interface GenreRepository extends JpaRepository<Genre, Long> {
 
     // NEW METHOD: Find the genre with the highest ID for SQLite
     Genre findTopByOrderByIdDesc();
+
+    // Links of one genre, read and removed on the join table without loading its movies
+    @Query(value = "SELECT movie_id FROM movie_genres WHERE genre_id = :genreId", nativeQuery = true)
+    List<Long> findLinkedMovieIds(@Param("genreId") Long genreId);
+
+    // Run before deleteMovieLinks: losing a genre changes each linked movie
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movies"))
+    @Query(value = "UPDATE movies SET version = version + 1 " +
+                   "WHERE id IN (SELECT movie_id FROM movie_genres WHERE genre_id = :genreId)",
+           nativeQuery = true)
+    int incrementLinkedMovieVersions(@Param("genreId") Long genreId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_genres"))
+    @Query(value = "DELETE FROM movie_genres WHERE genre_id = :genreId", nativeQuery = true)
+    int deleteMovieLinks(@Param("genreId") Long genreId);
 }
\ No newline at end of file
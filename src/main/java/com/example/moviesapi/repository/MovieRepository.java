@@ -1,22 +1,50 @@
 package com.example.moviesapi.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.moviesapi.dto.MovieResponse;
+import com.example.moviesapi.dto.RelationNamesView;
 import com.example.moviesapi.model.Movie;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
     // Basic CRUD operations are inherited from JpaRepository
 
+    // Read-only projections: select only the movie columns, no entity hydration
+    @Query("SELECT new com.example.moviesapi.dto.MovieResponse(m.id, m.title, m.releaseYear, m.duration) FROM Movie m")
+    Page<MovieResponse> findAllSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.example.moviesapi.dto.MovieResponse(m.id, m.title, m.releaseYear, m.duration) FROM Movie m " +
+                   "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))",
+           countQuery = "SELECT COUNT(m) FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    Page<MovieResponse> findSummariesByTitle(@Param("title") String title, Pageable pageable);
+
+    // Genre and actor names of a page of movies, aggregated per movie in one grouped query
+    @Query(value = "SELECT mg.movie_id AS movieId, 'G' AS kind, GROUP_CONCAT(g.name, char(31)) AS names " +
+                   "FROM movie_genres mg JOIN genres g ON g.id = mg.genre_id " +
+                   "WHERE mg.movie_id IN (:movieIds) GROUP BY mg.movie_id " +
+                   "UNION ALL " +
+                   "SELECT ma.movie_id AS movieId, 'A' AS kind, GROUP_CONCAT(a.name, char(31)) AS names " +
+                   "FROM movie_actors ma JOIN actors a ON a.id = ma.actor_id " +
+                   "WHERE ma.movie_id IN (:movieIds) GROUP BY ma.movie_id",
+           nativeQuery = true)
+    List<RelationNamesView> findRelationNamesByMovieIds(@Param("movieIds") List<Long> movieIds);
+
     // Find movie by exact title match
     Optional<Movie> findByTitle(String title);
 
@@ -72,10 +100,6 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
         @Param("maxDuration") Integer maxDuration,
         Pageable pageable);
 
-    // Find movies with actor count
-    @Query("SELECT m, COUNT(a) as actorCount FROM Movie m LEFT JOIN m.actors a GROUP BY m ORDER BY m.title")
-    Page<Object[]> findAllWithActorCount(Pageable pageable);
-
     // Find latest movies
     Page<Movie> findByOrderByReleaseYearDesc(Pageable pageable);
 
@@ -94,10 +118,6 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT DISTINCT m FROM Movie m JOIN m.actors a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :actorName, '%'))")
     Page<Movie> findByActorNameContaining(@Param("actorName") String actorName, Pageable pageable);
 
-    // Count movies by release year
-    @Query("SELECT m.releaseYear, COUNT(m) FROM Movie m GROUP BY m.releaseYear ORDER BY m.releaseYear DESC")
-    List<Object[]> countMoviesByReleaseYear();
-
     // Find duplicate movies by title and year
     @Query("SELECT m.title, m.releaseYear, COUNT(m) FROM Movie m GROUP BY m.title, m.releaseYear HAVING COUNT(m) > 1")
     List<Object[]> findDuplicateMovies();
@@ -109,18 +129,61 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     List<Movie> findByIdIn(List<Long> ids);
 
     List<Movie> findByTitleIn(List<String> titles);
-    
-    // Find movies with no genres
-    @Query("SELECT m FROM Movie m WHERE m.genres IS EMPTY")
-    List<Movie> findMoviesWithNoGenres();
-    
-    // Find movies with no actors
-    @Query("SELECT m FROM Movie m WHERE m.actors IS EMPTY")
-    List<Movie> findMoviesWithNoActors();
 
     // NEW METHOD: Find the movie with the highest ID for SQLite
     Movie findTopByOrderByIdDesc();
 
+    // Link maintenance: reads and writes movie_genres / movie_actors rows directly, so
+    // neither the movie's collections nor the inverse Genre.movies / Actor.movies (every
+    // movie of a genre) are loaded. The writes flush and then clear the persistence
+    // context, whose collections would otherwise be stale; callers reload the movie and
+    // call incrementVersion, since Hibernate does not see these changes. Each write names
+    // its table, which keeps Hibernate from emptying every second-level cache region;
+    // the movie's cached links are evicted by the callers (see SecondLevelCache).
+    @Query("SELECT g.id FROM Movie m JOIN m.genres g WHERE m.id = :movieId")
+    List<Long> findGenreIdsByMovieId(@Param("movieId") Long movieId);
+
+    @Query("SELECT a.id FROM Movie m JOIN m.actors a WHERE m.id = :movieId")
+    List<Long> findActorIdsByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_genres"))
+    @Query(value = "INSERT OR IGNORE INTO movie_genres (movie_id, genre_id) " +
+                   "SELECT :movieId, id FROM genres WHERE id IN :genreIds",
+           nativeQuery = true)
+    int insertGenreLinks(@Param("movieId") Long movieId, @Param("genreIds") Collection<Long> genreIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_actors"))
+    @Query(value = "INSERT OR IGNORE INTO movie_actors (movie_id, actor_id) " +
+                   "SELECT :movieId, id FROM actors WHERE id IN :actorIds",
+           nativeQuery = true)
+    int insertActorLinks(@Param("movieId") Long movieId, @Param("actorIds") Collection<Long> actorIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_genres"))
+    @Query(value = "DELETE FROM movie_genres WHERE movie_id = :movieId AND genre_id IN :genreIds", nativeQuery = true)
+    int deleteGenreLinks(@Param("movieId") Long movieId, @Param("genreIds") Collection<Long> genreIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_actors"))
+    @Query(value = "DELETE FROM movie_actors WHERE movie_id = :movieId AND actor_id IN :actorIds", nativeQuery = true)
+    int deleteActorLinks(@Param("movieId") Long movieId, @Param("actorIds") Collection<Long> actorIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_genres"))
+    @Query(value = "DELETE FROM movie_genres WHERE movie_id = :movieId", nativeQuery = true)
+    int deleteAllGenreLinks(@Param("movieId") Long movieId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "movie_actors"))
+    @Query(value = "DELETE FROM movie_actors WHERE movie_id = :movieId", nativeQuery = true)
+    int deleteAllActorLinks(@Param("movieId") Long movieId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Movie m SET m.version = m.version + 1 WHERE m.id = :movieId")
+    int incrementVersion(@Param("movieId") Long movieId);
+
     // REQUIRED: Alternative method names for compatibility
     default Page<Movie> findByGenres_Id(Long genreId, Pageable pageable) {
         return findByGenresId(genreId, pageable);
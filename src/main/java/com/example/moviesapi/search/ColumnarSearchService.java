@@ -0,0 +1,84 @@
+package com.example.moviesapi.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.moviesapi.support.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Advanced movie search (title term, year and duration ranges) over an in-memory
+ * columnar copy of the movies table, see {@link MovieColumns}.
+ *
+ * The copy is loaded once at startup and kept current by MovieService, which
+ * reports every committed create, update and delete. Only movie ids come from
+ * here, in id order; the caller loads the page's entities. Disabled with
+ * app.search.columnar.enabled=false, in which case the query goes to SQLite.
+ */
+@Service
+public class ColumnarSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarSearchService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final MovieColumns columns = new MovieColumns();
+
+    public ColumnarSearchService(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.search.columnar.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        columns.load(jdbcTemplate.query(
+            "SELECT id, title, release_year, duration FROM movies ORDER BY id",
+            (rs, rowNum) -> new MovieColumns.Row(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4))));
+        log.info("Loaded columnar copy of {} movies", columns.size());
+    }
+
+    /**
+     * Returns the ids of matching movies in id order, or an empty Optional when
+     * the columnar copy is disabled or the page asks for another order.
+     */
+    public Optional<Page<Long>> searchMovieIds(String title, Integer minYear, Integer maxYear,
+                                               Integer minDuration, Integer maxDuration, Pageable pageable) {
+        if (!enabled || pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+        MovieColumns.Matches matches = columns.search(title, minYear, maxYear, minDuration, maxDuration,
+            pageable.getOffset(), pageable.getPageSize());
+        List<Long> ids = Arrays.stream(matches.ids()).mapToObj(id -> (long) id).toList();
+        return Optional.of(new PageImpl<>(ids, pageable, matches.total()));
+    }
+
+    // WRITE HOOKS (applied once the surrounding transaction commits)
+
+    public void movieSaved(Long movieId, String title, int releaseYear, int duration) {
+        if (enabled) {
+            MovieColumns.Row row = new MovieColumns.Row(Math.toIntExact(movieId), title, releaseYear, duration);
+            AfterCommit.run(() -> columns.put(row));
+        }
+    }
+
+    public void movieDeleted(Long movieId) {
+        if (enabled) {
+            AfterCommit.run(() -> columns.remove(movieId));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.moviesapi.search;
+
+import java.util.List;
+
+/**
+ * Filters of a faceted movie search. Movies must have every genre and actor of
+ * the "all" lists, at least one of each non-empty "any" list, none of the "not"
+ * lists, and fall in one of the given decades and duration buckets when those
+ * are set. Missing lists are treated as empty.
+ */
+public record FacetQuery(
+        List<Long> allGenres,
+        List<Long> anyGenres,
+        List<Long> notGenres,
+        List<Long> allActors,
+        List<Long> anyActors,
+        List<Long> notActors,
+        List<Integer> decades,
+        List<String> durations) {
+
+    public FacetQuery {
+        allGenres = orEmpty(allGenres);
+        anyGenres = orEmpty(anyGenres);
+        notGenres = orEmpty(notGenres);
+        allActors = orEmpty(allActors);
+        anyActors = orEmpty(anyActors);
+        notActors = orEmpty(notActors);
+        decades = orEmpty(decades);
+        durations = orEmpty(durations);
+
+        for (Integer decade : decades) {
+            if (decade % 10 != 0) {
+                throw new IllegalArgumentException("Decades must be written as their first year, e.g. 1990");
+            }
+        }
+        for (String bucket : durations) {
+            if (!MovieFacetIndex.DURATION_BUCKETS.contains(bucket)) {
+                throw new IllegalArgumentException("Durations must be among " + MovieFacetIndex.DURATION_BUCKETS);
+            }
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> values) {
+        return values == null ? List.of() : List.copyOf(values);
+    }
+}
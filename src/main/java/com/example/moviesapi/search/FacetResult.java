@@ -0,0 +1,17 @@
+package com.example.moviesapi.search;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * One page of faceted search results with the facet counts of the whole result:
+ * facet name ("genres", "actors", "decades", "durations") to value to the number
+ * of matching movies with that value.
+ */
+public record FacetResult<T>(Page<T> results, Map<String, Map<String, Long>> facets) {
+
+    public <U> FacetResult<U> withResults(Page<U> results) {
+        return new FacetResult<>(results, facets);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.moviesapi.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import com.example.moviesapi.support.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Faceted movie search: AND / OR / NOT over genres and actors, restricted by
+ * decade and duration bucket, with facet counts for the whole result.
+ *
+ * Answered from a {@link MovieFacetIndex} loaded once at startup and kept
+ * current by the services, which report every committed create, delete and link
+ * change. Only movie ids come from here; the caller loads the page's entities.
+ */
+@Service
+public class FacetSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(FacetSearchService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MovieFacetIndex index = new MovieFacetIndex();
+
+    public FacetSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        index.clear();
+        jdbcTemplate.query("SELECT id, release_year, duration FROM movies", rs -> {
+            index.putMovie(rs.getLong(1), rs.getInt(2), rs.getInt(3));
+        });
+        // Primary key order, so each genre's and actor's movies arrive as one run
+        Runs genreRuns = new Runs(index::addGenreMovies);
+        jdbcTemplate.query("SELECT genre_id, movie_id FROM movie_genres ORDER BY genre_id, movie_id", genreRuns);
+        genreRuns.flush();
+        Runs actorRuns = new Runs(index::addActorMovies);
+        jdbcTemplate.query("SELECT actor_id, movie_id FROM movie_actors ORDER BY actor_id, movie_id", actorRuns);
+        actorRuns.flush();
+        index.optimize();
+        log.info("Loaded facet index of {} movies", index.size());
+    }
+
+    public FacetResult<Long> search(FacetQuery query, Pageable pageable) {
+        MovieFacetIndex.Matches matches = index.search(query, pageable.getOffset(), pageable.getPageSize());
+        List<Long> ids = Arrays.stream(matches.ids()).mapToObj(id -> (long) id).toList();
+        return new FacetResult<>(new PageImpl<>(ids, pageable, matches.total()), matches.facets());
+    }
+
+    // WRITE HOOKS (applied once the surrounding transaction commits)
+
+    public void movieCreated(Long movieId, int releaseYear, int duration) {
+        AfterCommit.run(() -> index.putMovie(movieId, releaseYear, duration));
+    }
+
+    public void movieChanged(Long movieId, int previousYear, int previousDuration, int releaseYear, int duration) {
+        if (previousYear != releaseYear || previousDuration != duration) {
+            AfterCommit.run(() -> index.moveMovie(movieId, previousYear, previousDuration, releaseYear, duration));
+        }
+    }
+
+    public void movieDeleted(Long movieId, int releaseYear, int duration,
+                             Collection<Long> genreIds, Collection<Long> actorIds) {
+        AfterCommit.run(() -> index.removeMovie(movieId, releaseYear, duration, genreIds, actorIds));
+    }
+
+    public void genresLinked(Long movieId, Collection<Long> genreIds, boolean linked) {
+        if (!genreIds.isEmpty()) {
+            AfterCommit.run(() -> index.linkGenres(movieId, genreIds, linked));
+        }
+    }
+
+    public void actorsLinked(Long movieId, Collection<Long> actorIds, boolean linked) {
+        if (!actorIds.isEmpty()) {
+            AfterCommit.run(() -> index.linkActors(movieId, actorIds, linked));
+        }
+    }
+
+    public void genreDeleted(Long genreId) {
+        AfterCommit.run(() -> index.removeGenre(genreId));
+    }
+
+    public void actorDeleted(Long actorId) {
+        AfterCommit.run(() -> index.removeActor(actorId));
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(long key, int[] movieIds, int count);
+    }
+
+    // Collects consecutive (key, movie id) rows with the same key into one bulk add
+    private static final class Runs implements RowCallbackHandler {
+
+        private final RunConsumer consumer;
+        private int[] movieIds = new int[1024];
+        private int count;
+        private long key;
+
+        Runs(RunConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowKey = rs.getLong(1);
+            if (count > 0 && rowKey != key) {
+                flush();
+            }
+            key = rowKey;
+            if (count == movieIds.length) {
+                movieIds = Arrays.copyOf(movieIds, count * 2);
+            }
+            movieIds[count++] = rs.getInt(2);
+        }
+
+        void flush() {
+            if (count > 0) {
+                consumer.accept(key, movieIds, count);
+                count = 0;
+            }
+        }
+    }
+}
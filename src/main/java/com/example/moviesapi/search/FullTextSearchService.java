@@ -0,0 +1,133 @@
+package com.example.moviesapi.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Full-text search over movie titles and actor names backed by SQLite FTS5.
+ *
+ * The FTS tables are external-content tables using the trigram tokenizer, so a
+ * MATCH on a quoted phrase behaves like the old case-insensitive
+ * LIKE '%term%' search but is answered from the index. Triggers on the base
+ * tables keep the index in sync with every insert, update and delete, whether it
+ * comes from JPA, data.sql or a native query. Results are ordered by bm25 rank.
+ */
+@Service
+public class FullTextSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextSearchService.class);
+
+    // The trigram tokenizer cannot match terms shorter than three characters
+    private static final int MIN_TERM_LENGTH = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile boolean available;
+
+    public FullTextSearchService(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.search.full-text.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            createIndex("movies_fts", "movies", "title");
+            createIndex("actors_fts", "actors", "name");
+            available = true;
+        } catch (Exception e) {
+            log.warn("SQLite FTS5 is not available, falling back to LIKE search: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the ids of movies whose title contains the term, best match first,
+     * or an empty Optional when the full-text index cannot answer the query.
+     */
+    public Optional<Page<Long>> searchMovieIds(String title, Pageable pageable) {
+        return search("movies_fts", title, pageable);
+    }
+
+    /**
+     * Returns the ids of actors whose name contains the term, best match first,
+     * or an empty Optional when the full-text index cannot answer the query.
+     */
+    public Optional<Page<Long>> searchActorIds(String name, Pageable pageable) {
+        return search("actors_fts", name, pageable);
+    }
+
+    /**
+     * Puts entities loaded by id back into the rank order of the search result page.
+     */
+    public static <T> Page<T> inRankOrder(Page<Long> rankedIds, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> ordered = rankedIds.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, rankedIds.getPageable(), rankedIds.getTotalElements());
+    }
+
+    private Optional<Page<Long>> search(String ftsTable, String term, Pageable pageable) {
+        if (!available || term == null || term.trim().length() < MIN_TERM_LENGTH) {
+            return Optional.empty();
+        }
+
+        // Quote the term so FTS5 treats it as one phrase, not as query syntax
+        String phrase = "\"" + term.trim().replace("\"", "\"\"") + "\"";
+
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + ftsTable + " WHERE " + ftsTable + " MATCH ?", Long.class, phrase);
+        if (total == null || total == 0) {
+            return Optional.of(Page.empty(pageable));
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT rowid FROM " + ftsTable + " WHERE " + ftsTable + " MATCH ? ORDER BY rank, rowid LIMIT ? OFFSET ?",
+            Long.class, phrase, pageable.getPageSize(), pageable.getOffset());
+        return Optional.of(new PageImpl<>(ids, pageable, total));
+    }
+
+    private void createIndex(String ftsTable, String table, String column) {
+        // Triggers disappear whenever the base table is recreated (ddl-auto=create),
+        // which is exactly when the index content has to be rebuilt
+        Integer triggers = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM sqlite_master WHERE type = 'trigger' AND name LIKE ?",
+            Integer.class, ftsTable + "_a_");
+
+        jdbcTemplate.execute("CREATE VIRTUAL TABLE IF NOT EXISTS " + ftsTable + " USING fts5(" + column +
+            ", content='" + table + "', content_rowid='id', tokenize='trigram')");
+
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_ai AFTER INSERT ON " + table + " BEGIN " +
+            "INSERT INTO " + ftsTable + "(rowid, " + column + ") VALUES (new.id, new." + column + "); END");
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_ad AFTER DELETE ON " + table + " BEGIN " +
+            "INSERT INTO " + ftsTable + "(" + ftsTable + ", rowid, " + column + ") VALUES ('delete', old.id, old." + column + "); END");
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS " + ftsTable + "_au AFTER UPDATE OF " + column + " ON " + table + " BEGIN " +
+            "INSERT INTO " + ftsTable + "(" + ftsTable + ", rowid, " + column + ") VALUES ('delete', old.id, old." + column + "); " +
+            "INSERT INTO " + ftsTable + "(rowid, " + column + ") VALUES (new.id, new." + column + "); END");
+
+        if (triggers == null || triggers < 3) {
+            jdbcTemplate.execute("INSERT INTO " + ftsTable + "(" + ftsTable + ") VALUES ('rebuild')");
+            log.info("Rebuilt full-text index {}", ftsTable);
+        }
+    }
+}
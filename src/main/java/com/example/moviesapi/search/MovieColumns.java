@@ -0,0 +1,405 @@
+package com.example.moviesapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The movies table as parallel primitive columns: id, release year, duration and
+ * a dictionary code of the lower-cased title, one row per movie in id order.
+ *
+ * Year and duration also have a sorted permutation of the rows, packed as
+ * (value << 32 | row) longs, so the size of a range is two binary searches. A
+ * query that a range narrows to a few rows reads just those rows; anything
+ * broader is a branch-free scan over the int columns, which the JIT can unroll
+ * and vectorize. A title term is matched once per distinct title in the
+ * dictionary, not once per movie.
+ *
+ * Deleted rows stay in place with a year of -1, which no range matches, until
+ * they make up a quarter of the table and the columns are compacted. Titles no
+ * row uses any more (after renames and deletes) stay in the dictionary until
+ * they make up a quarter of it; compaction rebuilds it from the live rows. Reads
+ * share a read lock; writes take the write lock.
+ */
+public class MovieColumns {
+
+    // Below this share of the table, the rows of a range are read from the permutation
+    private static final int RANGE_LOOKUP_DIVISOR = 32;
+
+    private static final int DELETED = -1;
+
+    private int[] ids = new int[0];
+    private int[] years = new int[0];
+    private int[] durations = new int[0];
+    private int[] titleCodes = new int[0];
+    private long[] byYear = new long[0];
+    private long[] byDuration = new long[0];
+    private int rows;
+    private int deleted;
+
+    private final List<String> titles = new ArrayList<>();
+    private final Map<String, Integer> titleDictionary = new HashMap<>();
+    // Rows per title code, and the number of codes no row uses
+    private int[] titleRows = new int[0];
+    private int unusedTitles;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // LOADING
+
+    /**
+     * Replaces the whole table. Rows must arrive in id order.
+     */
+    public void load(List<Row> movies) {
+        lock.writeLock().lock();
+        try {
+            titles.clear();
+            titleDictionary.clear();
+            titleRows = new int[0];
+            unusedTitles = 0;
+            rows = 0;
+            deleted = 0;
+            ids = new int[movies.size()];
+            years = new int[movies.size()];
+            durations = new int[movies.size()];
+            titleCodes = new int[movies.size()];
+            for (Row movie : movies) {
+                set(rows++, movie);
+            }
+            rebuildPermutations();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record Row(int id, String title, int releaseYear, int duration) {}
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows - deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // WRITES
+
+    /**
+     * Inserts the movie, or replaces the row of the same id.
+     */
+    public void put(Row movie) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(movie.id());
+            if (row >= 0) {
+                if (years[row] != DELETED) {
+                    unindex(row);
+                    release(titleCodes[row]);
+                } else {
+                    deleted--;
+                }
+                set(row, movie);
+                index(row);
+                if (unusedTitles * 4 > titles.size()) {
+                    compact();
+                }
+            } else if (rows == 0 || ids[rows - 1] < movie.id()) {
+                ensureCapacity(rows + 1);
+                set(rows, movie);
+                index(rows++);
+            } else {
+                // An id below the last one: open a slot in id order and renumber the rows
+                int at = -row - 1;
+                ensureCapacity(rows + 1);
+                shift(at);
+                set(at, movie);
+                rows++;
+                rebuildPermutations();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long movieId) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(Math.toIntExact(movieId));
+            if (row < 0 || years[row] == DELETED) {
+                return;
+            }
+            unindex(row);
+            release(titleCodes[row]);
+            years[row] = DELETED;
+            deleted++;
+            if (deleted * 4 > rows || unusedTitles * 4 > titles.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // QUERIES
+
+    /**
+     * Movie ids matching every given bound (null means unbounded) and, when the
+     * term is not null, whose title contains it ignoring case. Returns up to limit
+     * ids in id order from offset on, with the total number of matches.
+     */
+    public Matches search(String term, Integer minYear, Integer maxYear,
+                          Integer minDuration, Integer maxDuration, long offset, int limit) {
+        // Lower bounds stay at or above 0 so deleted rows never match
+        int minY = minYear == null ? 0 : Math.max(0, minYear);
+        int maxY = maxYear == null ? Integer.MAX_VALUE : maxYear;
+        int minD = minDuration == null ? 0 : Math.max(0, minDuration);
+        int maxD = maxDuration == null ? Integer.MAX_VALUE : maxDuration;
+
+        lock.readLock().lock();
+        try {
+            if (minY > maxY || minD > maxD) {
+                return new Matches(new int[0], 0);
+            }
+            boolean[] titleMatches = term == null ? null : titleMatches(term.toLowerCase(Locale.ROOT));
+
+            int[] candidates = null;
+            if (minYear != null || maxYear != null || minDuration != null || maxDuration != null) {
+                int yearFrom = startOf(byYear, minY);
+                int yearRows = Math.max(0, endOf(byYear, maxY) - yearFrom);
+                int durationFrom = startOf(byDuration, minD);
+                int durationRows = Math.max(0, endOf(byDuration, maxD) - durationFrom);
+                if (Math.min(yearRows, durationRows) * (long) RANGE_LOOKUP_DIVISOR < rows) {
+                    candidates = yearRows <= durationRows
+                        ? rowsIn(byYear, yearFrom, yearRows)
+                        : rowsIn(byDuration, durationFrom, durationRows);
+                }
+            }
+            return candidates != null
+                ? collect(candidates, titleMatches, minY, maxY, minD, maxD, offset, limit)
+                : scan(titleMatches, minY, maxY, minD, maxD, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Matches(int[] ids, long total) {}
+
+    // Full table: count with a branch-free loop, then walk again only as far as the page
+    private Matches scan(boolean[] titleMatches, int minY, int maxY, int minD, int maxD, long offset, int limit) {
+        int total = 0;
+        if (titleMatches == null) {
+            for (int row = 0; row < rows; row++) {
+                int year = years[row];
+                int duration = durations[row];
+                total += (year >= minY & year <= maxY & duration >= minD & duration <= maxD) ? 1 : 0;
+            }
+        } else {
+            for (int row = 0; row < rows; row++) {
+                int year = years[row];
+                int duration = durations[row];
+                total += (year >= minY & year <= maxY & duration >= minD & duration <= maxD
+                    & titleMatches[titleCodes[row]]) ? 1 : 0;
+            }
+        }
+
+        int[] page = new int[(int) Math.max(0, Math.min(limit, total - offset))];
+        long seen = 0;
+        int taken = 0;
+        for (int row = 0; row < rows && taken < page.length; row++) {
+            if (matches(row, titleMatches, minY, maxY, minD, maxD) && seen++ >= offset) {
+                page[taken++] = ids[row];
+            }
+        }
+        return new Matches(page, total);
+    }
+
+    private Matches collect(int[] candidates, boolean[] titleMatches, int minY, int maxY, int minD, int maxD,
+                            long offset, int limit) {
+        Arrays.sort(candidates);
+        int[] page = new int[limit];
+        long total = 0;
+        int taken = 0;
+        for (int row : candidates) {
+            if (matches(row, titleMatches, minY, maxY, minD, maxD)) {
+                if (total >= offset && taken < limit) {
+                    page[taken++] = ids[row];
+                }
+                total++;
+            }
+        }
+        return new Matches(Arrays.copyOf(page, taken), total);
+    }
+
+    private boolean matches(int row, boolean[] titleMatches, int minY, int maxY, int minD, int maxD) {
+        int year = years[row];
+        int duration = durations[row];
+        return year >= minY && year <= maxY && duration >= minD && duration <= maxD
+            && (titleMatches == null || titleMatches[titleCodes[row]]);
+    }
+
+    private boolean[] titleMatches(String term) {
+        boolean[] matches = new boolean[titles.size()];
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = titles.get(code).contains(term);
+        }
+        return matches;
+    }
+
+    // First position in the permutation with a value of at least min
+    private int startOf(long[] permutation, int min) {
+        return lowerBound(permutation, rows - deleted, (long) min << 32);
+    }
+
+    // Position after the last value of at most max
+    private int endOf(long[] permutation, int max) {
+        return max == Integer.MAX_VALUE ? rows - deleted
+            : lowerBound(permutation, rows - deleted, (long) (max + 1) << 32);
+    }
+
+    private static int[] rowsIn(long[] permutation, int from, int size) {
+        int[] rowIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowIds[i] = (int) permutation[from + i];
+        }
+        return rowIds;
+    }
+
+    // SECTION: row maintenance (write lock held)
+
+    private void set(int row, Row movie) {
+        ids[row] = movie.id();
+        years[row] = movie.releaseYear();
+        durations[row] = movie.duration();
+        titleCodes[row] = titleCode(movie.title().toLowerCase(Locale.ROOT));
+    }
+
+    private int titleCode(String title) {
+        Integer code = titleDictionary.get(title);
+        if (code == null) {
+            code = titles.size();
+            titles.add(title);
+            titleDictionary.put(title, code);
+            if (code == titleRows.length) {
+                titleRows = Arrays.copyOf(titleRows, titleRows.length + (titleRows.length >> 1) + 16);
+            }
+            unusedTitles++;
+        }
+        if (titleRows[code]++ == 0) {
+            unusedTitles--;
+        }
+        return code;
+    }
+
+    private void release(int titleCode) {
+        if (--titleRows[titleCode] == 0) {
+            unusedTitles++;
+        }
+    }
+
+    private void index(int row) {
+        insert(byYear, rows - deleted - 1, key(years[row], row));
+        insert(byDuration, rows - deleted - 1, key(durations[row], row));
+    }
+
+    private void unindex(int row) {
+        int live = rows - deleted;
+        remove(byYear, live, key(years[row], row));
+        remove(byDuration, live, key(durations[row], row));
+    }
+
+    // length is the number of keys before the insert; ensureCapacity has made room
+    private static void insert(long[] permutation, int length, long key) {
+        int at = lowerBound(permutation, length, key);
+        System.arraycopy(permutation, at, permutation, at + 1, length - at);
+        permutation[at] = key;
+    }
+
+    private static void remove(long[] permutation, int length, long key) {
+        int at = lowerBound(permutation, length, key);
+        System.arraycopy(permutation, at + 1, permutation, at, length - at - 1);
+    }
+
+    private void shift(int at) {
+        System.arraycopy(ids, at, ids, at + 1, rows - at);
+        System.arraycopy(years, at, years, at + 1, rows - at);
+        System.arraycopy(durations, at, durations, at + 1, rows - at);
+        System.arraycopy(titleCodes, at, titleCodes, at + 1, rows - at);
+    }
+
+    // Drops deleted rows, and renumbers the titles so only those of live rows remain
+    private void compact() {
+        List<String> oldTitles = new ArrayList<>(titles);
+        titles.clear();
+        titleDictionary.clear();
+        titleRows = new int[0];
+        unusedTitles = 0;
+        int kept = 0;
+        for (int row = 0; row < rows; row++) {
+            if (years[row] != DELETED) {
+                ids[kept] = ids[row];
+                years[kept] = years[row];
+                durations[kept] = durations[row];
+                titleCodes[kept] = titleCode(oldTitles.get(titleCodes[row]));
+                kept++;
+            }
+        }
+        rows = kept;
+        deleted = 0;
+        rebuildPermutations();
+    }
+
+    private void rebuildPermutations() {
+        int live = 0;
+        byYear = new long[ids.length];
+        byDuration = new long[ids.length];
+        for (int row = 0; row < rows; row++) {
+            if (years[row] != DELETED) {
+                byYear[live] = key(years[row], row);
+                byDuration[live] = key(durations[row], row);
+                live++;
+            }
+        }
+        Arrays.sort(byYear, 0, live);
+        Arrays.sort(byDuration, 0, live);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length + (ids.length >> 1) + 16);
+            ids = Arrays.copyOf(ids, grown);
+            years = Arrays.copyOf(years, grown);
+            durations = Arrays.copyOf(durations, grown);
+            titleCodes = Arrays.copyOf(titleCodes, grown);
+            byYear = Arrays.copyOf(byYear, grown);
+            byDuration = Arrays.copyOf(byDuration, grown);
+        }
+    }
+
+    // Row of the id, or -(insertion point) - 1 when it has none
+    private int rowOf(int id) {
+        return Arrays.binarySearch(ids, 0, rows, id);
+    }
+
+    private static int lowerBound(long[] permutation, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (permutation[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long key(int value, int row) {
+        return (long) value << 32 | row;
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.moviesapi.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Roaring bitmaps of movie ids, one per genre, actor, decade and duration bucket.
+ *
+ * A query intersects the bitmaps of its required values (smallest first), ORs
+ * the values of each "any" list and subtracts the "not" lists, so its cost
+ * depends on the size of the bitmaps involved rather than on the number of
+ * movies. Facet counts are intersection cardinalities of the result with each
+ * value's bitmap. Results are in movie id order; a page is read by jumping to
+ * the offset-th id with select().
+ *
+ * Reads share a read lock; writes take the write lock and touch only the
+ * bitmaps of the changed values.
+ */
+public class MovieFacetIndex {
+
+    public static final String GENRES = "genres";
+    public static final String ACTORS = "actors";
+    public static final String DECADES = "decades";
+    public static final String DURATIONS = "durations";
+
+    // Lower bounds in minutes; the last bucket ends at the 500 minute maximum
+    private static final int[] DURATION_BOUNDS = {0, 60, 90, 120, 150, 180};
+
+    public static final List<String> DURATION_BUCKETS =
+        List.of("0-59", "60-89", "90-119", "120-149", "150-179", "180-500");
+
+    private static final RoaringBitmap NONE = new RoaringBitmap();
+
+    private final RoaringBitmap movies = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> genres = new HashMap<>();
+    private final Map<Long, RoaringBitmap> actors = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> decades = new TreeMap<>();
+    private final RoaringBitmap[] durations = new RoaringBitmap[DURATION_BOUNDS.length];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MovieFacetIndex() {
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = new RoaringBitmap();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            movies.clear();
+            genres.clear();
+            actors.clear();
+            decades.clear();
+            for (RoaringBitmap bucket : durations) {
+                bucket.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Converts the bitmaps to their most compact form, after a bulk load.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            movies.runOptimize();
+            genres.values().forEach(RoaringBitmap::runOptimize);
+            actors.values().forEach(RoaringBitmap::runOptimize);
+            decades.values().forEach(RoaringBitmap::runOptimize);
+            for (RoaringBitmap bucket : durations) {
+                bucket.runOptimize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return movies.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // WRITES
+
+    public void putMovie(long movieId, int releaseYear, int duration) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(movieId);
+            movies.add(id);
+            decades.computeIfAbsent(decadeOf(releaseYear), key -> new RoaringBitmap()).add(id);
+            durations[bucketOf(duration)].add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void moveMovie(long movieId, int previousYear, int previousDuration, int releaseYear, int duration) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(movieId);
+            unset(decades, decadeOf(previousYear), id);
+            decades.computeIfAbsent(decadeOf(releaseYear), key -> new RoaringBitmap()).add(id);
+            durations[bucketOf(previousDuration)].remove(id);
+            durations[bucketOf(duration)].add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeMovie(long movieId, int releaseYear, int duration,
+                            Collection<Long> genreIds, Collection<Long> actorIds) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(movieId);
+            movies.remove(id);
+            unset(decades, decadeOf(releaseYear), id);
+            durations[bucketOf(duration)].remove(id);
+            genreIds.forEach(genreId -> unset(genres, genreId, id));
+            actorIds.forEach(actorId -> unset(actors, actorId, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void linkGenres(long movieId, Collection<Long> genreIds, boolean linked) {
+        link(genres, movieId, genreIds, linked);
+    }
+
+    public void linkActors(long movieId, Collection<Long> actorIds, boolean linked) {
+        link(actors, movieId, actorIds, linked);
+    }
+
+    /**
+     * Bulk load of one genre's movies; ids need not be sorted.
+     */
+    public void addGenreMovies(long genreId, int[] movieIds, int count) {
+        addAll(genres, genreId, movieIds, count);
+    }
+
+    /**
+     * Bulk load of one actor's movies; ids need not be sorted.
+     */
+    public void addActorMovies(long actorId, int[] movieIds, int count) {
+        addAll(actors, actorId, movieIds, count);
+    }
+
+    public void removeGenre(long genreId) {
+        lock.writeLock().lock();
+        try {
+            genres.remove(genreId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeActor(long actorId) {
+        lock.writeLock().lock();
+        try {
+            actors.remove(actorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // QUERIES
+
+    /**
+     * Runs the query and returns up to limit movie ids from offset on, in id
+     * order, with the total number of matches and the facet counts.
+     */
+    public Matches search(FacetQuery query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = match(query);
+            long total = result.getLongCardinality();
+
+            int[] ids = new int[(int) Math.max(0, Math.min(limit, total - offset))];
+            if (ids.length > 0) {
+                PeekableIntIterator iterator = result.getIntIterator();
+                iterator.advanceIfNeeded(result.select((int) offset));
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = iterator.next();
+                }
+            }
+            return new Matches(ids, total, facets(result, query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Matches(int[] ids, long total, Map<String, Map<String, Long>> facets) {}
+
+    private RoaringBitmap match(FacetQuery query) {
+        List<RoaringBitmap> required = new ArrayList<>();
+        query.allGenres().forEach(genreId -> required.add(genres.getOrDefault(genreId, NONE)));
+        query.allActors().forEach(actorId -> required.add(actors.getOrDefault(actorId, NONE)));
+        if (!query.anyGenres().isEmpty()) {
+            required.add(union(genres, query.anyGenres()));
+        }
+        if (!query.anyActors().isEmpty()) {
+            required.add(union(actors, query.anyActors()));
+        }
+        if (!query.decades().isEmpty()) {
+            required.add(union(decades, query.decades()));
+        }
+        if (!query.durations().isEmpty()) {
+            List<RoaringBitmap> buckets = new ArrayList<>();
+            query.durations().forEach(bucket -> buckets.add(durations[DURATION_BUCKETS.indexOf(bucket)]));
+            required.add(FastAggregation.or(buckets.iterator()));
+        }
+
+        // Start from the most selective set so every following AND is cheap
+        required.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap result = required.isEmpty() ? movies.clone() : required.get(0).clone();
+        for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+            result.and(required.get(i));
+        }
+        if (!query.notGenres().isEmpty()) {
+            result.andNot(union(genres, query.notGenres()));
+        }
+        if (!query.notActors().isEmpty()) {
+            result.andNot(union(actors, query.notActors()));
+        }
+        return result;
+    }
+
+    // Counts for every genre, decade and duration bucket present in the result. Actors
+    // are only counted for the ids named in the query; there are far too many to scan.
+    private Map<String, Map<String, Long>> facets(RoaringBitmap result, FacetQuery query) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+
+        Map<String, Long> genreCounts = new LinkedHashMap<>();
+        new TreeMap<>(genres).forEach((genreId, bitmap) -> count(genreCounts, String.valueOf(genreId), result, bitmap));
+        facets.put(GENRES, genreCounts);
+
+        Map<String, Long> actorCounts = new LinkedHashMap<>();
+        TreeSet<Long> actorIds = new TreeSet<>(query.allActors());
+        actorIds.addAll(query.anyActors());
+        actorIds.addAll(query.notActors());
+        actorIds.forEach(actorId -> actorCounts.put(String.valueOf(actorId),
+            (long) RoaringBitmap.andCardinality(result, actors.getOrDefault(actorId, NONE))));
+        facets.put(ACTORS, actorCounts);
+
+        Map<String, Long> decadeCounts = new LinkedHashMap<>();
+        decades.forEach((decade, bitmap) -> count(decadeCounts, String.valueOf(decade), result, bitmap));
+        facets.put(DECADES, decadeCounts);
+
+        Map<String, Long> durationCounts = new LinkedHashMap<>();
+        for (int i = 0; i < durations.length; i++) {
+            durationCounts.put(DURATION_BUCKETS.get(i), (long) RoaringBitmap.andCardinality(result, durations[i]));
+        }
+        facets.put(DURATIONS, durationCounts);
+        return facets;
+    }
+
+    private static void count(Map<String, Long> counts, String key, RoaringBitmap result, RoaringBitmap bitmap) {
+        int count = RoaringBitmap.andCardinality(result, bitmap);
+        if (count > 0) {
+            counts.put(key, (long) count);
+        }
+    }
+
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+        List<RoaringBitmap> selected = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        return FastAggregation.or(selected.iterator());
+    }
+
+    private void link(Map<Long, RoaringBitmap> bitmaps, long movieId, Collection<Long> keys, boolean linked) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(movieId);
+            for (Long key : keys) {
+                if (linked) {
+                    bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+                } else {
+                    unset(bitmaps, key, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addAll(Map<Long, RoaringBitmap> bitmaps, long key, int[] movieIds, int count) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).addN(movieIds, 0, count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drops a value's bitmap once its last movie is gone
+    private static <K> void unset(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static int decadeOf(int releaseYear) {
+        return Math.floorDiv(releaseYear, 10) * 10;
+    }
+
+    private static int bucketOf(int duration) {
+        int bucket = 0;
+        while (bucket + 1 < DURATION_BOUNDS.length && duration >= DURATION_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+}
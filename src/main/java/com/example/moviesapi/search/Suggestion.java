@@ -0,0 +1,16 @@
+package com.example.moviesapi.search;
+
+/**
+ * A single autocomplete entry: a movie title, actor name or genre name with
+ * the popularity used to rank it.
+ */
+public record Suggestion(String type, Long id, String text, long popularity) {
+
+    public Suggestion withPopularity(long newPopularity) {
+        return new Suggestion(type, id, text, newPopularity);
+    }
+
+    public Suggestion withText(String newText) {
+        return new Suggestion(type, id, newText, popularity);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.moviesapi.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/suggest")
+@CrossOrigin(origins = "*")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    @Autowired
+    public SuggestionController(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    /**
+     * Autocomplete movie titles, actor names and genre names while the user types.
+     * Tolerates small typos once the query has at least three characters.
+     */
+    @GetMapping
+    public ResponseEntity<?> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) String types) {
+
+        if (limit <= 0 || limit > SuggestionIndex.TOP_K) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "Limit must be between 1 and " + SuggestionIndex.TOP_K
+            ));
+        }
+
+        Set<String> typeFilter = Set.of();
+        if (types != null && !types.isBlank()) {
+            typeFilter = Arrays.stream(types.split(","))
+                    .map(String::trim)
+                    .map(String::toLowerCase)
+                    .collect(Collectors.toSet());
+            if (!SuggestionService.TYPES.containsAll(typeFilter)) {
+                return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Types must be a comma-separated list of movie, actor and genre"
+                ));
+            }
+        }
+
+        List<Suggestion> suggestions = suggestionService.suggest(q, limit, typeFilter);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("query", q);
+        response.put("suggestions", suggestions);
+        response.put("count", suggestions.size());
+
+        return ResponseEntity.ok(response);
+    }
+}
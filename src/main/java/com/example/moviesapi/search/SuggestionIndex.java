@@ -0,0 +1,439 @@
+package com.example.moviesapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of suggestion keys.
+ *
+ * Every entry is indexed under each word-suffix of its normalized text, so
+ * "The Dark Knight" is found by "the d", "dark" and "kni". Each node caches
+ * the best TOP_K entries of its subtree, which makes an exact prefix lookup
+ * O(prefix length). Typo tolerance is a bounded Levenshtein walk over the
+ * trie that collects the cached top entries of every node within the allowed
+ * edit distance of the prefix.
+ *
+ * Reads share a read lock; writes take the write lock and only touch the
+ * nodes on the path of the changed keys.
+ */
+public class SuggestionIndex {
+
+    public static final int TOP_K = 10;
+
+    // Only the first few word-suffixes of long titles are indexed
+    private static final int MAX_KEYS_PER_ENTRY = 6;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::popularity).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type)
+            .thenComparing(Suggestion::id);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private final Node root = new Node("");
+    private final Map<String, Suggestion> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the entry, replacing any previous entry with the same type and id.
+     */
+    public void put(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.put(entryKey(suggestion.type(), suggestion.id()), suggestion);
+            if (previous != null) {
+                for (String key : keysOf(previous.text())) {
+                    removeKey(key, previous);
+                }
+            }
+            for (String key : keysOf(suggestion.text())) {
+                insertKey(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String type, Long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.remove(entryKey(type, id));
+            if (previous != null) {
+                for (String key : keysOf(previous.text())) {
+                    removeKey(key, previous);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustPopularity(String type, Long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Suggestion current = entries.get(entryKey(type, id));
+            if (current != null) {
+                put(current.withPopularity(Math.max(0, current.popularity() + delta)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Keeps the entry's popularity; an entry not indexed yet starts at 0
+    public void rename(String type, Long id, String text) {
+        lock.writeLock().lock();
+        try {
+            Suggestion current = entries.get(entryKey(type, id));
+            put(current != null ? current.withText(text) : new Suggestion(type, id, text, 0));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            root.children = NO_CHILDREN;
+            root.terminals = null;
+            root.top = NO_SUGGESTIONS;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit entries whose text has a word starting with the prefix,
+     * most popular first. When there are not enough exact matches, entries whose
+     * words start within maxEdits edits of the prefix are appended.
+     */
+    public List<Suggestion> suggest(String prefix, int limit, int maxEdits) {
+        String query = normalize(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Suggestion> result = new LinkedHashSet<>();
+            Node exact = findPrefixNode(query);
+            if (exact != null) {
+                addRanked(result, List.of(exact.top), limit);
+            }
+
+            if (result.size() < limit && maxEdits > 0) {
+                Set<Node> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+                int[] firstRow = new int[query.length() + 1];
+                for (int i = 0; i < firstRow.length; i++) {
+                    firstRow[i] = i;
+                }
+                for (Node child : root.children) {
+                    collectFuzzy(child, query, firstRow, maxEdits, matches);
+                }
+                List<Suggestion> fuzzy = new ArrayList<>();
+                for (Node node : matches) {
+                    fuzzy.addAll(Arrays.asList(node.top));
+                }
+                addRanked(result, fuzzy, limit);
+            }
+            return new ArrayList<>(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    // Word-suffixes of the normalized text: "mad max: fury road" -> "mad max: fury road", "max: fury road", ...
+    private static List<String> keysOf(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length() && keys.size() < MAX_KEYS_PER_ENTRY; i++) {
+            if (!Character.isLetterOrDigit(normalized.charAt(i - 1)) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static String entryKey(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static void addRanked(Set<Suggestion> result, List<Suggestion> candidates, int limit) {
+        List<Suggestion> sorted = new ArrayList<>(candidates);
+        sorted.sort(RANKING);
+        for (Suggestion suggestion : sorted) {
+            if (result.size() >= limit) {
+                return;
+            }
+            result.add(suggestion);
+        }
+    }
+
+    // Node whose subtree holds every key starting with the query, or null
+    private Node findPrefixNode(String query) {
+        Node node = root;
+        int i = 0;
+        while (i < query.length()) {
+            Node child = node.child(query.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            String label = child.label;
+            int j = 0;
+            while (j < label.length() && i < query.length()) {
+                if (label.charAt(j) != query.charAt(i)) {
+                    return null;
+                }
+                i++;
+                j++;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    // Bounded Levenshtein walk: row[k] is the edit distance between query[0..k) and the path so far
+    private static void collectFuzzy(Node node, String query, int[] parentRow, int maxEdits, Set<Node> matches) {
+        int[] row = parentRow;
+        for (int j = 0; j < node.label.length(); j++) {
+            char c = node.label.charAt(j);
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int best = next[0];
+            for (int k = 1; k < row.length; k++) {
+                int substitution = row[k - 1] + (query.charAt(k - 1) == c ? 0 : 1);
+                next[k] = Math.min(Math.min(next[k - 1] + 1, row[k] + 1), substitution);
+                best = Math.min(best, next[k]);
+            }
+            row = next;
+            if (row[row.length - 1] <= maxEdits) {
+                // The whole subtree of this node starts with a near-match of the query
+                matches.add(node);
+                return;
+            }
+            if (best > maxEdits) {
+                return;
+            }
+        }
+        for (Node child : node.children) {
+            collectFuzzy(child, query, row, maxEdits, matches);
+        }
+    }
+
+    private void insertKey(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.childIndex(key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[index];
+            int common = 0;
+            while (common < child.label.length() && i + common < key.length()
+                    && child.label.charAt(common) == key.charAt(i + common)) {
+                common++;
+            }
+            if (common < child.label.length()) {
+                // Split the edge: node -> middle(label[0..common)) -> child(label[common..))
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                middle.top = child.top;
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        if (node.terminals == null) {
+            node.terminals = new ArrayList<>(1);
+        }
+        node.terminals.add(suggestion);
+        offerTop(path, suggestion);
+    }
+
+    private void removeKey(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            i += child.label.length();
+        }
+        if (node.terminals != null && node.terminals.remove(suggestion)) {
+            if (node.terminals.isEmpty()) {
+                node.terminals = null;
+            }
+            // Ancestors rank a subset of this node's top, so an entry outside it changes
+            // no cached top; common words ("river") have tens of thousands of terminals
+            if (isRanked(node, suggestion)) {
+                refreshTops(path);
+            }
+        }
+    }
+
+    private static boolean isRanked(Node node, Suggestion suggestion) {
+        for (Suggestion ranked : node.top) {
+            if (ranked == suggestion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // An added entry can only enter the cached tops, bottom-up, until one node keeps
+    // it out; every ancestor ranks a superset of that node's subtree
+    private static void offerTop(List<Node> path, Suggestion suggestion) {
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node node = path.get(p);
+            Suggestion[] top = node.top;
+            int at = 0;
+            while (at < top.length && RANKING.compare(top[at], suggestion) < 0) {
+                at++;
+            }
+            if (at == TOP_K) {
+                return;
+            }
+            if (at < top.length && top[at] == suggestion) {
+                continue;
+            }
+            Suggestion[] grown = new Suggestion[Math.min(top.length + 1, TOP_K)];
+            System.arraycopy(top, 0, grown, 0, at);
+            grown[at] = suggestion;
+            System.arraycopy(top, at, grown, at + 1, grown.length - at - 1);
+            node.top = grown;
+        }
+    }
+
+    // Recomputes the cached top entries bottom-up along the changed path, keeping the
+    // best TOP_K in a bounded array rather than sorting every candidate
+    private static void refreshTops(List<Node> path) {
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node node = path.get(p);
+            Suggestion[] top = new Suggestion[TOP_K];
+            int size = 0;
+            if (node.terminals != null) {
+                for (Suggestion candidate : node.terminals) {
+                    size = offer(top, size, candidate);
+                }
+            }
+            for (Node child : node.children) {
+                for (Suggestion candidate : child.top) {
+                    size = offer(top, size, candidate);
+                }
+            }
+            node.top = size == TOP_K ? top : Arrays.copyOf(top, size);
+        }
+    }
+
+    // Inserts the candidate into the ranked prefix top[0..size) unless it ranks below a
+    // full array or is already there (an entry reaches a node through several keys)
+    private static int offer(Suggestion[] top, int size, Suggestion candidate) {
+        if (size == top.length && RANKING.compare(candidate, top[size - 1]) >= 0) {
+            return size;
+        }
+        for (int i = 0; i < size; i++) {
+            if (top[i] == candidate) {
+                return size;
+            }
+        }
+        int at = size;
+        while (at > 0 && RANKING.compare(top[at - 1], candidate) > 0) {
+            at--;
+        }
+        int end = Math.min(size, top.length - 1);
+        System.arraycopy(top, at, top, at + 1, end - at);
+        top[at] = candidate;
+        return Math.min(size + 1, top.length);
+    }
+
+    private static final class Node {
+        String label;
+        Node[] children = NO_CHILDREN;      // sorted by first label character
+        List<Suggestion> terminals;          // entries whose key ends exactly here
+        Suggestion[] top = NO_SUGGESTIONS;   // best TOP_K entries of the subtree
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int index = childIndex(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void addChild(Node child) {
+            int insertAt = -(childIndex(child.label.charAt(0)) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertAt);
+            grown[insertAt] = child;
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            children = grown;
+        }
+    }
+}
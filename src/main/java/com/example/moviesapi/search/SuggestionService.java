@@ -0,0 +1,120 @@
+package com.example.moviesapi.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.moviesapi.support.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Autocomplete over movie titles, actor names and genre names.
+ *
+ * The index is loaded once at startup and then kept current by the services,
+ * which report every committed create, rename, delete and relation change.
+ * Popularity is the number of linked actors for a movie and the number of
+ * linked movies for an actor or genre.
+ */
+@Service
+public class SuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionService.class);
+
+    public static final String MOVIE = "movie";
+    public static final String ACTOR = "actor";
+    public static final String GENRE = "genre";
+
+    public static final Set<String> TYPES = Set.of(MOVIE, ACTOR, GENRE);
+
+    // Typos are only tolerated once the prefix is long enough to be selective
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int TWO_EDITS_LENGTH = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean fuzzyEnabled;
+    private final SuggestionIndex index = new SuggestionIndex();
+
+    public SuggestionService(JdbcTemplate jdbcTemplate,
+                             @Value("${app.search.suggest.fuzzy:true}") boolean fuzzyEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fuzzyEnabled = fuzzyEnabled;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        index.clear();
+        jdbcTemplate.query(
+            "SELECT m.id, m.title, COUNT(ma.actor_id) FROM movies m " +
+            "LEFT JOIN movie_actors ma ON ma.movie_id = m.id GROUP BY m.id, m.title",
+            rs -> {
+                index.put(new Suggestion(MOVIE, rs.getLong(1), rs.getString(2), rs.getLong(3)));
+            });
+        jdbcTemplate.query(
+            "SELECT a.id, a.name, COUNT(ma.movie_id) FROM actors a " +
+            "LEFT JOIN movie_actors ma ON ma.actor_id = a.id GROUP BY a.id, a.name",
+            rs -> {
+                index.put(new Suggestion(ACTOR, rs.getLong(1), rs.getString(2), rs.getLong(3)));
+            });
+        jdbcTemplate.query(
+            "SELECT g.id, g.name, COUNT(mg.movie_id) FROM genres g " +
+            "LEFT JOIN movie_genres mg ON mg.genre_id = g.id GROUP BY g.id, g.name",
+            rs -> {
+                index.put(new Suggestion(GENRE, rs.getLong(1), rs.getString(2), rs.getLong(3)));
+            });
+        log.info("Loaded {} autocomplete entries", index.size());
+    }
+
+    /**
+     * Returns up to limit suggestions for the prefix, restricted to the given
+     * types when any are passed. Exact prefix matches come first; close
+     * misspellings fill the remaining slots.
+     */
+    public List<Suggestion> suggest(String prefix, int limit, Set<String> types) {
+        String query = SuggestionIndex.normalize(prefix);
+        int maxEdits = !fuzzyEnabled || query.length() < MIN_FUZZY_LENGTH ? 0
+            : query.length() >= TWO_EDITS_LENGTH ? 2 : 1;
+
+        if (types == null || types.isEmpty() || types.containsAll(TYPES)) {
+            return index.suggest(query, limit, maxEdits);
+        }
+        // Over-fetch so filtering by type still leaves enough results
+        return index.suggest(query, SuggestionIndex.TOP_K * TYPES.size(), maxEdits).stream()
+                .filter(s -> types.contains(s.type()))
+                .limit(limit)
+                .toList();
+    }
+
+    // WRITE HOOKS (applied once the surrounding transaction commits)
+
+    public void save(String type, Long id, String text, long popularity) {
+        AfterCommit.run(() -> index.put(new Suggestion(type, id, text, popularity)));
+    }
+
+    // A rename leaves the links, and so the popularity, as they were
+    public void rename(String type, Long id, String text) {
+        AfterCommit.run(() -> index.rename(type, id, text));
+    }
+
+    public void remove(String type, Long id) {
+        AfterCommit.run(() -> index.remove(type, id));
+    }
+
+    public void adjustPopularity(String type, Long id, long delta) {
+        if (delta != 0) {
+            AfterCommit.run(() -> index.adjustPopularity(type, id, delta));
+        }
+    }
+
+    public void adjustPopularity(String type, Collection<Long> ids, long delta) {
+        if (delta != 0 && !ids.isEmpty()) {
+            AfterCommit.run(() -> ids.forEach(id -> index.adjustPopularity(type, id, delta)));
+        }
+    }
+}
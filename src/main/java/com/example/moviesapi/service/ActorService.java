@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -11,24 +12,53 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.moviesapi.cache.SecondLevelCache;
+import com.example.moviesapi.cache.SimpleCacheService;
+import com.example.moviesapi.dto.ActorResponse;
 import com.example.moviesapi.exception.InvalidRequestException;
 import com.example.moviesapi.exception.ResourceNotFoundException;
 import com.example.moviesapi.model.Actor;
 import com.example.moviesapi.model.Movie;
 import com.example.moviesapi.repository.ActorRepository;
+import com.example.moviesapi.search.FacetSearchService;
+import com.example.moviesapi.search.FullTextSearchService;
+import com.example.moviesapi.search.SuggestionService;
+import com.example.moviesapi.support.BatchedWrite;
+import com.example.moviesapi.support.CatalogVersion;
 
 @Service
 @Transactional
 public class ActorService {
 
     private final ActorRepository actorRepository;
+    private final FullTextSearchService fullTextSearchService;
+    private final SuggestionService suggestionService;
+    private final CatalogVersion catalogVersion;
+    private final SimpleCacheService cacheService;
+    private final CatalogAggregates catalogAggregates;
+    private final FacetSearchService facetSearchService;
+    private final SecondLevelCache secondLevelCache;
+    private final ExistenceFilters existenceFilters;
 
     @Autowired
-    public ActorService(ActorRepository actorRepository) {
+    public ActorService(ActorRepository actorRepository, FullTextSearchService fullTextSearchService,
+                        SuggestionService suggestionService, CatalogVersion catalogVersion,
+                        SimpleCacheService cacheService, CatalogAggregates catalogAggregates,
+                        FacetSearchService facetSearchService, SecondLevelCache secondLevelCache,
+                        ExistenceFilters existenceFilters) {
         this.actorRepository = actorRepository;
+        this.fullTextSearchService = fullTextSearchService;
+        this.suggestionService = suggestionService;
+        this.catalogVersion = catalogVersion;
+        this.cacheService = cacheService;
+        this.catalogAggregates = catalogAggregates;
+        this.facetSearchService = facetSearchService;
+        this.secondLevelCache = secondLevelCache;
+        this.existenceFilters = existenceFilters;
     }
 
     // CREATE - Fixed for SQLite
+    @BatchedWrite
     public Actor createActor(Actor actor) {
         if (actor.getName() == null || actor.getName().trim().isEmpty()) {
             throw new InvalidRequestException("Actor name is required");
@@ -42,12 +72,14 @@ public class ActorService {
         }
 
         // Check for existing actor with same name and birth date
-        if (actorRepository.existsByNameAndBirthDate(actor.getName().trim(), actor.getBirthDate())) {
+        String name = actor.getName().trim();
+        if (existenceFilters.actorExists(name, actor.getBirthDate(),
+                () -> actorRepository.existsByNameAndBirthDate(name, actor.getBirthDate()))) {
             throw new InvalidRequestException("Actor with name '" + actor.getName() + 
                 "' and birth date '" + actor.getBirthDate() + "' already exists");
         }
 
-        actor.setName(actor.getName().trim());
+        actor.setName(name);
 
         // For SQLite, use the alternative approach directly
         return createActorAlternative(actor);
@@ -59,8 +91,13 @@ public class ActorService {
         Long nextId = findNextAvailableId();
         actor.setId(nextId);
         
+        catalogVersion.changed();
+
         // Save with explicit ID
-        return actorRepository.save(actor);
+        Actor savedActor = actorRepository.save(actor);
+        existenceFilters.actorSaved(savedActor.getId(), savedActor.getName(), savedActor.getBirthDate());
+        suggestionService.save(SuggestionService.ACTOR, savedActor.getId(), savedActor.getName(), 0);
+        return savedActor;
     }
 
     // Find next available ID for SQLite
@@ -104,10 +141,45 @@ public class ActorService {
         if (name == null || name.trim().isEmpty()) {
             throw new InvalidRequestException("Search name cannot be empty");
         }
-        return actorRepository.findByNameContainingIgnoreCase(name.trim(), pageable);
+
+        // Ranked full-text lookup; short terms or a missing FTS5 module fall back to LIKE
+        Optional<Page<Long>> rankedIds = fullTextSearchService.searchActorIds(name, pageable);
+        if (rankedIds.isEmpty()) {
+            return actorRepository.findByNameContainingIgnoreCase(name.trim(), pageable);
+        }
+        if (!rankedIds.get().hasContent()) {
+            return Page.empty(pageable);
+        }
+        List<Actor> actors = actorRepository.findByIdIn(rankedIds.get().getContent());
+        return FullTextSearchService.inRankOrder(rankedIds.get(), actors, Actor::getId);
+    }
+
+    // ADVANCED SEARCH - name and birth date range, each optional
+    @Transactional(readOnly = true)
+    public Page<Actor> advancedSearch(String name, LocalDate minBirthDate, LocalDate maxBirthDate, Pageable pageable) {
+        if (minBirthDate != null && maxBirthDate != null && minBirthDate.isAfter(maxBirthDate)) {
+            throw new InvalidRequestException("minBirthDate cannot be after maxBirthDate");
+        }
+        String term = name == null || name.isBlank() ? null : name.trim();
+        return actorRepository.findBySearchCriteria(term, minBirthDate, maxBirthDate, pageable);
+    }
+
+    // READ-ONLY PROJECTIONS
+    @Transactional(readOnly = true)
+    public Page<ActorResponse> getActorSummaries(Pageable pageable) {
+        return actorRepository.findAllSummaries(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ActorResponse> searchActorSummariesByName(String name, Pageable pageable) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new InvalidRequestException("Search name cannot be empty");
+        }
+        return actorRepository.findSummariesByName(name.trim(), pageable);
     }
 
     // PARTIAL UPDATE
+    @BatchedWrite
     public Actor partialUpdateActor(Long id, Map<String, Object> updates) {
         Actor actor = getActorById(id);
         
@@ -117,7 +189,8 @@ public class ActorService {
                     if (value != null) {
                         String newName = value.toString().trim();
                         if (!newName.isEmpty()) {
-                            if (actorRepository.existsByNameAndBirthDate(newName, actor.getBirthDate()) && 
+                            if (existenceFilters.actorExists(newName, actor.getBirthDate(),
+                                    () -> actorRepository.existsByNameAndBirthDate(newName, actor.getBirthDate())) && 
                                 !actor.getName().equals(newName)) {
                                 throw new InvalidRequestException("Actor with name '" + newName + 
                                     "' and birth date '" + actor.getBirthDate() + "' already exists");
@@ -136,7 +209,8 @@ public class ActorService {
                             if (newBirthDate.isAfter(LocalDate.now())) {
                                 throw new InvalidRequestException("Birth date cannot be in the future");
                             }
-                            if (actorRepository.existsByNameAndBirthDate(actor.getName(), newBirthDate) && 
+                            if (existenceFilters.actorExists(actor.getName(), newBirthDate,
+                                    () -> actorRepository.existsByNameAndBirthDate(actor.getName(), newBirthDate)) && 
                                 !actor.getBirthDate().equals(newBirthDate)) {
                                 throw new InvalidRequestException("Actor with name '" + actor.getName() + 
                                     "' and birth date '" + newBirthDate + "' already exists");
@@ -153,15 +227,25 @@ public class ActorService {
             }
         });
 
-        return actorRepository.save(actor);
+        catalogVersion.changed();
+        Actor savedActor = actorRepository.save(actor);
+        existenceFilters.actorSaved(id, savedActor.getName(), savedActor.getBirthDate());
+        if (updates.containsKey("name")) {
+            suggestionService.rename(SuggestionService.ACTOR, id, savedActor.getName());
+        }
+        return savedActor;
     }
 
     // DELETE
+    // Only the linked movie ids are read (for their suggestion popularity); the links
+    // themselves go in one statement on movie_actors
+    @BatchedWrite
     public void deleteActor(Long id, boolean force) {
         Actor actor = getActorById(id);
+        List<Long> movieIds = actorRepository.findLinkedMovieIds(id);
         
-        if (!force && !actor.getMovies().isEmpty()) {
-            int movieCount = actor.getMovies().size();
+        if (!force && !movieIds.isEmpty()) {
+            int movieCount = movieIds.size();
             throw new InvalidRequestException(
                 "Cannot delete actor '" + actor.getName() + 
                 "' because they are associated with " + movieCount + " movie" + 
@@ -169,20 +253,27 @@ public class ActorService {
             );
         }
 
-        if (force) {
-            List<Movie> movies = List.copyOf(actor.getMovies());
-            for (Movie movie : movies) {
-                actor.removeMovie(movie);
-            }
+        if (!movieIds.isEmpty()) {
+            actorRepository.incrementLinkedMovieVersions(id);
+            actorRepository.deleteMovieLinks(id);
+            secondLevelCache.evictAllLinks();
+            suggestionService.adjustPopularity(SuggestionService.MOVIE, movieIds, -1);
+            cacheService.remove("all_movies");
+            cacheService.remove("all_movies_cached");
+            cacheService.removeByPrefix("movie_");
         }
 
-        actorRepository.delete(actor);
+        catalogVersion.changed();
+        actorRepository.deleteById(id);
+        suggestionService.remove(SuggestionService.ACTOR, id);
+        catalogAggregates.actorDeleted(movieIds);
+        facetSearchService.actorDeleted(id);
     }
 
     // VALIDATION
     @Transactional(readOnly = true)
     public boolean actorExists(Long id) {
-        return actorRepository.existsById(id);
+        return existenceFilters.actorExists(id, () -> actorRepository.existsById(id));
     }
 
     // BULK GET ACTORS BY IDS
@@ -0,0 +1,314 @@
+package com.example.moviesapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.moviesapi.support.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Materialized counts behind the /stats endpoints: movies per genre, movies per
+ * release year, and genres and actors per movie.
+ *
+ * Loaded once at startup with grouped queries over the join tables, then kept
+ * current by the services, which report every create, delete and link change.
+ * Deltas are applied once the write's transaction commits, like the autocomplete
+ * index. The endpoints take counts and ids from here and only load the entities
+ * of the page they return.
+ *
+ * Per-movie counts live in arrays indexed by movie id (ids are assigned
+ * sequentially), with bit sets marking the movies that have no genre or no actor.
+ */
+@Service
+public class CatalogAggregates {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogAggregates.class);
+
+    private static final Comparator<Map.Entry<Long, Long>> MOST_MOVIES = Map.Entry.<Long, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Long> moviesPerGenre = new HashMap<>();
+    private final NavigableMap<Integer, Long> moviesPerYear = new TreeMap<>();
+    private final BitSet movies = new BitSet();
+    private final BitSet withoutGenres = new BitSet();
+    private final BitSet withoutActors = new BitSet();
+    private int[] genresPerMovie = new int[0];
+    private int[] actorsPerMovie = new int[0];
+
+    public CatalogAggregates(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            moviesPerGenre.clear();
+            moviesPerYear.clear();
+            movies.clear();
+            withoutGenres.clear();
+            withoutActors.clear();
+            genresPerMovie = new int[0];
+            actorsPerMovie = new int[0];
+
+            jdbcTemplate.query(
+                "SELECT g.id, COUNT(mg.movie_id) FROM genres g " +
+                "LEFT JOIN movie_genres mg ON mg.genre_id = g.id GROUP BY g.id",
+                rs -> {
+                    moviesPerGenre.put(rs.getLong(1), rs.getLong(2));
+                });
+            jdbcTemplate.query("SELECT id, release_year FROM movies", rs -> {
+                int id = movieIndex(rs.getLong(1));
+                movies.set(id);
+                withoutGenres.set(id);
+                withoutActors.set(id);
+                moviesPerYear.merge(rs.getInt(2), 1L, Long::sum);
+            });
+            jdbcTemplate.query("SELECT movie_id, COUNT(*) FROM movie_genres GROUP BY movie_id", rs -> {
+                int id = movieIndex(rs.getLong(1));
+                genresPerMovie = grow(genresPerMovie, id);
+                genresPerMovie[id] = rs.getInt(2);
+                withoutGenres.clear(id);
+            });
+            jdbcTemplate.query("SELECT movie_id, COUNT(*) FROM movie_actors GROUP BY movie_id", rs -> {
+                int id = movieIndex(rs.getLong(1));
+                actorsPerMovie = grow(actorsPerMovie, id);
+                actorsPerMovie[id] = rs.getInt(2);
+                withoutActors.clear(id);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded catalog aggregates: {} movies, {} genres, {} release years",
+            movies.cardinality(), moviesPerGenre.size(), moviesPerYear.size());
+    }
+
+    // READS
+
+    public long moviesInGenre(Long genreId) {
+        lock.readLock().lock();
+        try {
+            return moviesPerGenre.getOrDefault(genreId, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Genre ids with their movie counts, most movies first (ties by id).
+     */
+    public List<Map.Entry<Long, Long>> genresByMovieCount() {
+        lock.readLock().lock();
+        try {
+            List<Map.Entry<Long, Long>> ranked = new ArrayList<>(moviesPerGenre.size());
+            moviesPerGenre.forEach((id, count) -> ranked.add(Map.entry(id, count)));
+            ranked.sort(MOST_MOVIES);
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> genresWithMinimumMovies(long minMovies) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            moviesPerGenre.forEach((id, count) -> {
+                if (count >= minMovies) {
+                    ids.add(id);
+                }
+            });
+            ids.sort(null);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long actorsInMovie(Long movieId) {
+        lock.readLock().lock();
+        try {
+            int id = movieIndex(movieId);
+            return id < actorsPerMovie.length ? actorsPerMovie[id] : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> moviesWithoutGenres() {
+        return ids(withoutGenres);
+    }
+
+    public List<Long> moviesWithoutActors() {
+        return ids(withoutActors);
+    }
+
+    /**
+     * Rows of [release year, movie count], latest year first.
+     */
+    public List<Object[]> moviesPerReleaseYear() {
+        lock.readLock().lock();
+        try {
+            List<Object[]> rows = new ArrayList<>(moviesPerYear.size());
+            moviesPerYear.descendingMap().forEach((year, count) -> rows.add(new Object[] {year, count}));
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // WRITE HOOKS (applied once the surrounding transaction commits)
+
+    public void movieCreated(Long movieId, int releaseYear) {
+        AfterCommit.run(() -> write(() -> {
+            int id = movieIndex(movieId);
+            movies.set(id);
+            withoutGenres.set(id);
+            withoutActors.set(id);
+            moviesPerYear.merge(releaseYear, 1L, Long::sum);
+        }));
+    }
+
+    public void releaseYearChanged(int previousYear, int releaseYear) {
+        if (previousYear != releaseYear) {
+            AfterCommit.run(() -> write(() -> {
+                decrement(moviesPerYear, previousYear);
+                moviesPerYear.merge(releaseYear, 1L, Long::sum);
+            }));
+        }
+    }
+
+    public void movieDeleted(Long movieId, int releaseYear, Collection<Long> genreIds) {
+        AfterCommit.run(() -> write(() -> {
+            int id = movieIndex(movieId);
+            movies.clear(id);
+            withoutGenres.clear(id);
+            withoutActors.clear(id);
+            if (id < genresPerMovie.length) {
+                genresPerMovie[id] = 0;
+            }
+            if (id < actorsPerMovie.length) {
+                actorsPerMovie[id] = 0;
+            }
+            decrement(moviesPerYear, releaseYear);
+            for (Long genreId : genreIds) {
+                moviesPerGenre.computeIfPresent(genreId, (key, count) -> Math.max(0, count - 1));
+            }
+        }));
+    }
+
+    /**
+     * Genres linked to (delta 1) or unlinked from (delta -1) one movie.
+     */
+    public void genresLinked(Long movieId, Collection<Long> genreIds, int delta) {
+        if (genreIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            for (Long genreId : genreIds) {
+                moviesPerGenre.computeIfPresent(genreId, (key, count) -> Math.max(0, count + delta));
+            }
+            genresPerMovie = adjust(genresPerMovie, withoutGenres, movieIndex(movieId), delta * genreIds.size());
+        }));
+    }
+
+    /**
+     * Change in the number of actors of one movie.
+     */
+    public void actorsLinked(Long movieId, int delta) {
+        if (delta != 0) {
+            AfterCommit.run(() -> write(() ->
+                actorsPerMovie = adjust(actorsPerMovie, withoutActors, movieIndex(movieId), delta)));
+        }
+    }
+
+    public void genreCreated(Long genreId) {
+        AfterCommit.run(() -> write(() -> moviesPerGenre.putIfAbsent(genreId, 0L)));
+    }
+
+    public void genreDeleted(Long genreId, Collection<Long> movieIds) {
+        AfterCommit.run(() -> write(() -> {
+            moviesPerGenre.remove(genreId);
+            for (Long movieId : movieIds) {
+                genresPerMovie = adjust(genresPerMovie, withoutGenres, movieIndex(movieId), -1);
+            }
+        }));
+    }
+
+    public void actorDeleted(Collection<Long> movieIds) {
+        if (!movieIds.isEmpty()) {
+            AfterCommit.run(() -> write(() -> {
+                for (Long movieId : movieIds) {
+                    actorsPerMovie = adjust(actorsPerMovie, withoutActors, movieIndex(movieId), -1);
+                }
+            }));
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Long> ids(BitSet set) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(set.cardinality());
+            for (int id = set.nextSetBit(0); id >= 0; id = set.nextSetBit(id + 1)) {
+                ids.add((long) id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Applies a delta to one movie's count and keeps its "has none" bit in step
+    private int[] adjust(int[] counts, BitSet none, int id, int delta) {
+        int[] grown = grow(counts, id);
+        grown[id] = Math.max(0, grown[id] + delta);
+        if (movies.get(id)) {
+            none.set(id, grown[id] == 0);
+        }
+        return grown;
+    }
+
+    private static int[] grow(int[] counts, int id) {
+        if (id < counts.length) {
+            return counts;
+        }
+        return Arrays.copyOf(counts, Math.max(id + 1, counts.length + (counts.length >> 1)));
+    }
+
+    private static void decrement(Map<Integer, Long> counts, int key) {
+        counts.computeIfPresent(key, (year, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static int movieIndex(Long movieId) {
+        return Math.toIntExact(movieId);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.moviesapi.service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.moviesapi.support.BloomFilter;
+import com.example.moviesapi.support.LayeredBloomFilter;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bloom filters over the ids and natural keys of movies (title and release year)
+ * and actors (name and birth date), in front of the exists queries.
+ *
+ * A key the filter has never seen does not exist, and the query is skipped; any
+ * other answer comes from the query. Most lookups during an import are misses,
+ * which no longer reach SQLite. Genres need no filter: GenreDictionary holds
+ * them all.
+ *
+ * Built at startup, with room for twice the rows, and fed by MovieService and
+ * ActorService on every save; a filter that fills up grows another layer (see
+ * LayeredBloomFilter), so a long import keeps its false-positive rate instead of
+ * saturating. Keys are added when the row is written, not after
+ * commit, so a check never misses a row that another transaction has just
+ * committed; a rolled back write leaves a false positive behind, as does a
+ * delete. Checks, skipped queries and false positives per filter are reported at
+ * /api/metrics/existence-filters. Disabled with app.existence-filters.enabled=false.
+ */
+@Service
+public class ExistenceFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceFilters.class);
+
+    // Room for growth before the first extra layer
+    private static final int GROWTH_FACTOR = 2;
+    private static final int MIN_KEYS = 1 << 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+
+    private final Filter movieIds = new Filter();
+    private final Filter movieKeys = new Filter();
+    private final Filter actorIds = new Filter();
+    private final Filter actorKeys = new Filter();
+
+    public ExistenceFilters(JdbcTemplate jdbcTemplate,
+                            @Value("${app.existence-filters.enabled:true}") boolean enabled,
+                            @Value("${app.existence-filters.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        long movies = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies", Long.class);
+        movieIds.reset(capacity(movies));
+        movieKeys.reset(capacity(movies));
+        jdbcTemplate.query("SELECT id, title, release_year FROM movies", rs -> {
+            movieIds.add(BloomFilter.hash(rs.getLong(1)));
+            movieKeys.add(BloomFilter.hash(movieKey(rs.getString(2), rs.getInt(3))));
+        });
+
+        long actors = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actors", Long.class);
+        actorIds.reset(capacity(actors));
+        actorKeys.reset(capacity(actors));
+        jdbcTemplate.query("SELECT id, name, birth_date FROM actors", rs -> {
+            actorIds.add(BloomFilter.hash(rs.getLong(1)));
+            actorKeys.add(BloomFilter.hash(actorKey(rs.getString(2), LocalDate.ofEpochDay(rs.getLong(3)))));
+        });
+        log.info("Built existence filters over {} movies and {} actors", movies, actors);
+    }
+
+    // CHECKS (the query runs unless the filter rules the key out)
+
+    public boolean movieExists(Long id, BooleanSupplier query) {
+        return id == null ? query.getAsBoolean() : check(movieIds, BloomFilter.hash(id), query);
+    }
+
+    public boolean movieExists(String title, Integer releaseYear, BooleanSupplier query) {
+        return check(movieKeys, BloomFilter.hash(movieKey(title, releaseYear)), query);
+    }
+
+    public boolean actorExists(Long id, BooleanSupplier query) {
+        return id == null ? query.getAsBoolean() : check(actorIds, BloomFilter.hash(id), query);
+    }
+
+    public boolean actorExists(String name, LocalDate birthDate, BooleanSupplier query) {
+        return check(actorKeys, BloomFilter.hash(actorKey(name, birthDate)), query);
+    }
+
+    private boolean check(Filter filter, long hash, BooleanSupplier query) {
+        return enabled ? filter.exists(hash, query) : query.getAsBoolean();
+    }
+
+    // WRITE HOOKS (applied right away, see above)
+
+    public void movieSaved(Long id, String title, Integer releaseYear) {
+        if (enabled) {
+            movieIds.add(BloomFilter.hash(id));
+            movieKeys.add(BloomFilter.hash(movieKey(title, releaseYear)));
+        }
+    }
+
+    public void actorSaved(Long id, String name, LocalDate birthDate) {
+        if (enabled) {
+            actorIds.add(BloomFilter.hash(id));
+            actorKeys.add(BloomFilter.hash(actorKey(name, birthDate)));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("targetFalsePositiveRate", falsePositiveRate);
+        if (enabled) {
+            stats.put("movieIds", movieIds.getStats());
+            stats.put("movieTitleAndYear", movieKeys.getStats());
+            stats.put("actorIds", actorIds.getStats());
+            stats.put("actorNameAndBirthDate", actorKeys.getStats());
+        }
+        return stats;
+    }
+
+    private long capacity(long rows) {
+        return Math.max(MIN_KEYS, rows * GROWTH_FACTOR);
+    }
+
+    // Titles and names hold no NUL, so it keeps the two parts apart
+    private static String movieKey(String title, Integer releaseYear) {
+        return title + '\u0000' + releaseYear;
+    }
+
+    private static String actorKey(String name, LocalDate birthDate) {
+        return name + '\u0000' + (birthDate == null ? "" : birthDate.toEpochDay());
+    }
+
+    // SECTION: filters
+
+    private final class Filter {
+
+        // Set by initialize, before any check
+        private volatile LayeredBloomFilter bloom;
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder queried = new LongAdder();
+        private final LongAdder falsePositives = new LongAdder();
+
+        void reset(long expectedKeys) {
+            bloom = new LayeredBloomFilter(expectedKeys, falsePositiveRate);
+        }
+
+        void add(long hash) {
+            bloom.add(hash);
+        }
+
+        boolean exists(long hash, BooleanSupplier query) {
+            if (!bloom.mightContain(hash)) {
+                skipped.increment();
+                return false;
+            }
+            queried.increment();
+            boolean exists = query.getAsBoolean();
+            if (!exists) {
+                falsePositives.increment();
+            }
+            return exists;
+        }
+
+        Map<String, Object> getStats() {
+            LayeredBloomFilter current = bloom;
+            long misses = skipped.sum();
+            long wrong = falsePositives.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("keys", current.keys());
+            stats.put("layers", current.layers());
+            stats.put("bits", current.bits());
+            stats.put("fillRatio", current.fillRatio());
+            stats.put("expectedFalsePositiveRate", current.expectedFalsePositiveRate());
+            stats.put("checks", misses + queried.sum());
+            stats.put("skippedQueries", misses);
+            stats.put("falsePositives", wrong);
+            // Share of the keys that did not exist which still cost a query
+            stats.put("observedFalsePositiveRate", misses + wrong == 0 ? 0.0 : (double) wrong / (misses + wrong));
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.moviesapi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.moviesapi.model.Genre;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Every genre's id and name in memory, so existence checks and lookups by id or
+ * by name (ignoring case) never query SQLite.
+ *
+ * Readers get an immutable {@link Snapshot} from an AtomicReference and take no
+ * lock. GenreService reports each saved and deleted genre; once the transaction
+ * commits, a copy with the change applied is swapped in. Until then the writing
+ * transaction sees its own changes on top of the committed snapshot, so a later
+ * call in the same (possibly batched) transaction checks names against them.
+ *
+ * Lookups return detached Genre instances holding only id and name.
+ */
+@Service
+public class GenreDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreDictionary.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicReference<Snapshot> committed = new AtomicReference<>(Snapshot.EMPTY);
+
+    public GenreDictionary(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM genres", rs -> {
+            names.put(rs.getLong(1), rs.getString(2));
+        });
+        committed.set(Snapshot.EMPTY.with(names));
+        log.info("Loaded genre dictionary of {} genres", names.size());
+    }
+
+    // READS
+
+    public boolean contains(Long id) {
+        return id != null && current().names().containsKey(id);
+    }
+
+    public boolean containsName(String name) {
+        return name != null && current().ids().containsKey(fold(name));
+    }
+
+    public Optional<Genre> findByName(String name) {
+        Snapshot snapshot = current();
+        return Optional.ofNullable(name == null ? null : snapshot.ids().get(fold(name)))
+            .map(id -> new Genre(id, snapshot.names().get(id)));
+    }
+
+    /**
+     * The genres with these names (ignoring case), once each, in the order given.
+     */
+    public List<Genre> findByNames(Collection<String> names) {
+        Snapshot snapshot = current();
+        LinkedHashSet<Long> ids = new LinkedHashSet<>();
+        for (String name : names) {
+            Long id = name == null ? null : snapshot.ids().get(fold(name));
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return genres(snapshot, ids);
+    }
+
+    /**
+     * The genres with these ids, once each, in the order given; unknown ids are
+     * skipped, like findByIdIn.
+     */
+    public List<Genre> findByIds(Collection<Long> ids) {
+        return genres(current(), new LinkedHashSet<>(ids));
+    }
+
+    private static List<Genre> genres(Snapshot snapshot, Collection<Long> ids) {
+        List<Genre> genres = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            String name = id == null ? null : snapshot.names().get(id);
+            if (name != null) {
+                genres.add(new Genre(id, name));
+            }
+        }
+        return genres;
+    }
+
+    // WRITE HOOKS (published once the surrounding transaction commits)
+
+    public void genreSaved(Long genreId, String name) {
+        change(genreId, name);
+    }
+
+    public void genreDeleted(Long genreId) {
+        change(genreId, null);
+    }
+
+    // SECTION: snapshots
+
+    // The committed snapshot, plus this transaction's own unpublished changes
+    private Snapshot current() {
+        @SuppressWarnings("unchecked")
+        Map<Long, String> pending = (Map<Long, String>) TransactionSynchronizationManager.getResource(this);
+        return pending == null ? committed.get() : committed.get().with(pending);
+    }
+
+    // A null name removes the genre
+    private void change(Long genreId, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed.updateAndGet(snapshot -> snapshot.with(Collections.singletonMap(genreId, name)));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, String> pending = (Map<Long, String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, String> changes = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // Applied to whatever is committed now, so concurrent writers never lose a change
+                    committed.updateAndGet(snapshot -> snapshot.with(changes));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(GenreDictionary.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.put(genreId, name);
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Id to name, and case-folded name to id. When two genres differ only in
+     * case, the name lookup finds the lower id.
+     */
+    record Snapshot(Map<Long, String> names, Map<String, Long> ids) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        Snapshot with(Map<Long, String> changes) {
+            TreeMap<Long, String> names = new TreeMap<>(this.names);
+            changes.forEach((id, name) -> {
+                if (name == null) {
+                    names.remove(id);
+                } else {
+                    names.put(id, name);
+                }
+            });
+            Map<String, Long> ids = new HashMap<>();
+            names.forEach((id, name) -> ids.putIfAbsent(fold(name), id));
+            return new Snapshot(Collections.unmodifiableMap(names), Collections.unmodifiableMap(ids));
+        }
+    }
+}
@@ -1,34 +1,65 @@
 package com.example.moviesapi.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.moviesapi.cache.SecondLevelCache;
+import com.example.moviesapi.cache.SimpleCacheService;
+import com.example.moviesapi.dto.GenreResponse;
 import com.example.moviesapi.exception.InvalidRequestException;
 import com.example.moviesapi.exception.ResourceNotFoundException;
 import com.example.moviesapi.model.Genre;
 import com.example.moviesapi.model.Movie;
 import com.example.moviesapi.repository.GenreRepository;
+import com.example.moviesapi.search.FacetSearchService;
+import com.example.moviesapi.search.SuggestionService;
+import com.example.moviesapi.support.BatchedWrite;
+import com.example.moviesapi.support.CatalogVersion;
 
 @Service
 @Transactional
 public class GenreService {
 
     private final GenreRepository genreRepository;
+    private final SuggestionService suggestionService;
+    private final CatalogVersion catalogVersion;
+    private final SimpleCacheService cacheService;
+    private final CatalogAggregates catalogAggregates;
+    private final FacetSearchService facetSearchService;
+    private final GenreDictionary genreDictionary;
+    private final SecondLevelCache secondLevelCache;
 
     @Autowired
-    public GenreService(GenreRepository genreRepository) {
+    public GenreService(GenreRepository genreRepository, SuggestionService suggestionService,
+                        CatalogVersion catalogVersion, SimpleCacheService cacheService,
+                        CatalogAggregates catalogAggregates, FacetSearchService facetSearchService,
+                        GenreDictionary genreDictionary, SecondLevelCache secondLevelCache) {
         this.genreRepository = genreRepository;
+        this.suggestionService = suggestionService;
+        this.catalogVersion = catalogVersion;
+        this.cacheService = cacheService;
+        this.catalogAggregates = catalogAggregates;
+        this.facetSearchService = facetSearchService;
+        this.genreDictionary = genreDictionary;
+        this.secondLevelCache = secondLevelCache;
     }
 
     // CREATE
+    @BatchedWrite
     public Genre createGenre(Genre genre) {
-        if (genreRepository.existsByNameIgnoreCase(genre.getName())) {
+        if (genreDictionary.containsName(genre.getName())) {
             throw new InvalidRequestException("Genre with name '" + genre.getName() + "' already exists");
         }
         
@@ -36,7 +67,12 @@ public class GenreService {
         Long nextId = findNextAvailableId();
         genre.setId(nextId);
         
-        return genreRepository.save(genre);
+        catalogVersion.changed();
+        Genre savedGenre = genreRepository.save(genre);
+        suggestionService.save(SuggestionService.GENRE, savedGenre.getId(), savedGenre.getName(), 0);
+        catalogAggregates.genreCreated(savedGenre.getId());
+        genreDictionary.genreSaved(savedGenre.getId(), savedGenre.getName());
+        return savedGenre;
     }
 
     // Find next available ID for SQLite
@@ -67,7 +103,7 @@ public class GenreService {
 
     @Transactional(readOnly = true)
     public Optional<Genre> getGenreByName(String name) {
-        return genreRepository.findByNameIgnoreCase(name);
+        return genreDictionary.findByName(name);
     }
 
     @Transactional(readOnly = true)
@@ -81,23 +117,38 @@ public class GenreService {
         return genreRepository.findByNameContainingIgnoreCase(name, pageable);
     }
 
+    // Movie counts come from CatalogAggregates; only the genres of the page are read
     @Transactional(readOnly = true)
     public Page<Object[]> getAllGenresWithMovieCount(Pageable pageable) {
-        return genreRepository.findAllWithMovieCount(pageable);
+        Page<Genre> genres = genreRepository.findAll(
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("name")));
+        return genres.map(genre -> new Object[] {genre, catalogAggregates.moviesInGenre(genre.getId())});
+    }
+
+    @Transactional(readOnly = true)
+    public Page<GenreResponse> getGenreSummaries(Pageable pageable) {
+        return genreRepository.findAllSummaries(pageable);
     }
 
     @Transactional(readOnly = true)
     public List<Genre> getGenresWithNoMovies() {
-        return genreRepository.findGenresWithNoMovies();
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, Long> genre : catalogAggregates.genresByMovieCount()) {
+            if (genre.getValue() == 0) {
+                ids.add(genre.getKey());
+            }
+        }
+        return inOrder(ids);
     }
 
     // UPDATE
+    @BatchedWrite
     public Genre updateGenre(Long id, Genre genreDetails) {
         Genre genre = getGenreById(id);
         
         if (genreDetails.getName() != null && 
             !genre.getName().equalsIgnoreCase(genreDetails.getName()) &&
-            genreRepository.existsByNameIgnoreCase(genreDetails.getName())) {
+            genreDictionary.containsName(genreDetails.getName())) {
             throw new InvalidRequestException("Genre with name '" + genreDetails.getName() + "' already exists");
         }
 
@@ -105,15 +156,23 @@ public class GenreService {
             genre.setName(genreDetails.getName());
         }
 
-        return genreRepository.save(genre);
+        catalogVersion.changed();
+        Genre savedGenre = genreRepository.save(genre);
+        suggestionService.rename(SuggestionService.GENRE, id, savedGenre.getName());
+        genreDictionary.genreSaved(id, savedGenre.getName());
+        return savedGenre;
     }
 
     // DELETE
+    // Only the linked movie ids are read (for the per-movie genre counts); the links
+    // are removed in one statement on movie_genres however many movies the genre has
+    @BatchedWrite
     public void deleteGenre(Long id, boolean force) {
         Genre genre = getGenreById(id);
+        List<Long> movieIds = genreRepository.findLinkedMovieIds(id);
+        int movieCount = movieIds.size();
         
-        if (!force && !genre.getMovies().isEmpty()) {
-            int movieCount = genre.getMovies().size();
+        if (!force && movieCount > 0) {
             throw new InvalidRequestException(
                 "Cannot delete genre '" + genre.getName() + 
                 "' because it has " + movieCount + " associated movie" + 
@@ -121,21 +180,30 @@ public class GenreService {
             );
         }
 
-        if (force) {
-            List<Movie> movies = List.copyOf(genre.getMovies());
-            for (Movie movie : movies) {
-                genre.removeMovie(movie);
-            }
+        if (movieCount > 0) {
+            genreRepository.incrementLinkedMovieVersions(id);
+            genreRepository.deleteMovieLinks(id);
+            secondLevelCache.evictAllLinks();
+            cacheService.remove("all_movies");
+            cacheService.remove("all_movies_cached");
+            cacheService.removeByPrefix("movie_");
         }
 
-        genreRepository.delete(genre);
+        catalogVersion.changed();
+        genreRepository.deleteById(id);
+        suggestionService.remove(SuggestionService.GENRE, id);
+        catalogAggregates.genreDeleted(id, movieIds);
+        facetSearchService.genreDeleted(id);
+        genreDictionary.genreDeleted(id);
     }
 
+    @BatchedWrite
     public void deleteGenre(Long id) {
         deleteGenre(id, false);
     }
 
     // BULK OPERATIONS
+    @BatchedWrite
     public List<Genre> createGenres(List<Genre> genres) {
         long distinctNames = genres.stream()
                 .map(genre -> genre.getName().toLowerCase())
@@ -150,7 +218,7 @@ public class GenreService {
                 .map(Genre::getName)
                 .toList();
         
-        List<Genre> existingGenres = genreRepository.findByNames(genreNames);
+        List<Genre> existingGenres = genreDictionary.findByNames(genreNames);
         if (!existingGenres.isEmpty()) {
             throw new InvalidRequestException("Some genres already exist: " + 
                 existingGenres.stream().map(Genre::getName).toList());
@@ -163,28 +231,67 @@ public class GenreService {
             nextId++;
         }
 
-        return genreRepository.saveAll(genres);
+        catalogVersion.changed();
+        List<Genre> savedGenres = genreRepository.saveAll(genres);
+        for (Genre genre : savedGenres) {
+            suggestionService.save(SuggestionService.GENRE, genre.getId(), genre.getName(), 0);
+            catalogAggregates.genreCreated(genre.getId());
+            genreDictionary.genreSaved(genre.getId(), genre.getName());
+        }
+        return savedGenres;
     }
 
     // VALIDATION
     @Transactional(readOnly = true)
     public boolean genreExists(Long id) {
-        return genreRepository.existsById(id);
+        return genreDictionary.contains(id);
     }
 
     @Transactional(readOnly = true)
     public boolean genreExistsByName(String name) {
-        return genreRepository.existsByNameIgnoreCase(name);
+        return genreDictionary.containsName(name);
     }
 
     // STATISTICS
     @Transactional(readOnly = true)
     public Page<Object[]> getTopGenresByMovieCount(Pageable pageable) {
-        return genreRepository.findTopGenresByMovieCount(pageable);
+        List<Map.Entry<Long, Long>> ranked = catalogAggregates.genresByMovieCount();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<Map.Entry<Long, Long>> page = ranked.subList(from, Math.min(ranked.size(), from + pageable.getPageSize()));
+        Map<Long, Genre> genres = byId(page.stream().map(Map.Entry::getKey).toList());
+        List<Object[]> rows = new ArrayList<>(page.size());
+        for (Map.Entry<Long, Long> entry : page) {
+            Genre genre = genres.get(entry.getKey());
+            if (genre != null) {
+                rows.add(new Object[] {genre, entry.getValue()});
+            }
+        }
+        return new PageImpl<>(rows, pageable, ranked.size());
     }
 
     @Transactional(readOnly = true)
     public List<Genre> getGenresWithMinimumMovies(int minMovies) {
-        return genreRepository.findGenresWithMinimumMovies(minMovies);
+        return inOrder(catalogAggregates.genresWithMinimumMovies(minMovies));
+    }
+
+    // Genres in the order of the given ids
+    private List<Genre> inOrder(List<Long> ids) {
+        Map<Long, Genre> byId = byId(ids);
+        List<Genre> genres = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Genre genre = byId.get(id);
+            if (genre != null) {
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+
+    private Map<Long, Genre> byId(List<Long> ids) {
+        Map<Long, Genre> genres = new HashMap<>();
+        for (Genre genre : genreDictionary.findByIds(ids)) {
+            genres.put(genre.getId(), genre);
+        }
+        return genres;
     }
 }
\ No newline at end of file
@@ -6,7 +6,9 @@ import com.example.moviesapi.model.Actor;
 import com.example.moviesapi.repository.MovieRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -18,6 +20,9 @@ public class MovieRecommendationService {
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private GenreDictionary genreDictionary;
+
     /**
      * Get movie recommendations based on a favorite movie
      * Finds movies with similar genres, actors, or release years
@@ -124,12 +129,15 @@ public class MovieRecommendationService {
         List<String> targetGenres = moodToGenres.getOrDefault(mood.toLowerCase(), 
             Arrays.asList("Drama")); // Default to Drama if mood not found
 
-        return movieRepository.findAll().stream()
-                .filter(movie -> movie.getGenres().stream()
-                        .anyMatch(genre -> targetGenres.contains(genre.getName())))
-                .sorted((m1, m2) -> Integer.compare(m2.getReleaseYear(), m1.getReleaseYear())) // Recent first
-                .limit(limit)
+        // Genre names resolve in memory; only the matching movies are read, recent first
+        List<Long> genreIds = genreDictionary.findByNames(targetGenres).stream()
+                .map(Genre::getId)
                 .collect(Collectors.toList());
+        if (genreIds.isEmpty() || limit == 0) {
+            return Collections.emptyList();
+        }
+        Sort recentFirst = Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("id"));
+        return movieRepository.findByGenreIds(genreIds, PageRequest.of(0, limit, recentFirst)).getContent();
     }
 
     /**
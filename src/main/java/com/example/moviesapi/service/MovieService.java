@@ -1,46 +1,97 @@
 package com.example.moviesapi.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.moviesapi.cache.SecondLevelCache;
 import com.example.moviesapi.cache.SimpleCacheService;
+import com.example.moviesapi.dto.MovieResponse;
+import com.example.moviesapi.dto.RelationNamesView;
 import com.example.moviesapi.exception.InvalidRequestException;
 import com.example.moviesapi.exception.ResourceNotFoundException;
 import com.example.moviesapi.model.Actor;
 import com.example.moviesapi.model.Genre;
 import com.example.moviesapi.model.Movie;
 import com.example.moviesapi.repository.ActorRepository;
-import com.example.moviesapi.repository.GenreRepository;
 import com.example.moviesapi.repository.MovieRepository;
+import com.example.moviesapi.search.ColumnarSearchService;
+import com.example.moviesapi.search.FacetQuery;
+import com.example.moviesapi.search.FacetResult;
+import com.example.moviesapi.search.FacetSearchService;
+import com.example.moviesapi.search.FullTextSearchService;
+import com.example.moviesapi.search.SuggestionService;
+import com.example.moviesapi.support.BatchedWrite;
+import com.example.moviesapi.support.CatalogVersion;
 
 @Service
 @Transactional
 public class MovieService {
 
+    private static final int ID_SLICE = 1000;
+
     private final MovieRepository movieRepository;
-    private final GenreRepository genreRepository;
+    private final GenreDictionary genreDictionary;
     private final ActorRepository actorRepository;
     private final SimpleCacheService cacheService;
+    private final FullTextSearchService fullTextSearchService;
+    private final SuggestionService suggestionService;
+    private final CatalogVersion catalogVersion;
+    private final CatalogAggregates catalogAggregates;
+    private final FacetSearchService facetSearchService;
+    private final ColumnarSearchService columnarSearchService;
+    private final SecondLevelCache secondLevelCache;
+    private final ExistenceFilters existenceFilters;
 
     @Autowired
     public MovieService(MovieRepository movieRepository, 
-                       GenreRepository genreRepository, 
+                       GenreDictionary genreDictionary,
                        ActorRepository actorRepository,
-                       SimpleCacheService cacheService) {
+                       SimpleCacheService cacheService,
+                       FullTextSearchService fullTextSearchService,
+                       SuggestionService suggestionService,
+                       CatalogVersion catalogVersion,
+                       CatalogAggregates catalogAggregates,
+                       FacetSearchService facetSearchService,
+                       ColumnarSearchService columnarSearchService,
+                       SecondLevelCache secondLevelCache,
+                       ExistenceFilters existenceFilters) {
         this.movieRepository = movieRepository;
-        this.genreRepository = genreRepository;
+        this.genreDictionary = genreDictionary;
         this.actorRepository = actorRepository;
         this.cacheService = cacheService;
+        this.fullTextSearchService = fullTextSearchService;
+        this.suggestionService = suggestionService;
+        this.catalogVersion = catalogVersion;
+        this.catalogAggregates = catalogAggregates;
+        this.facetSearchService = facetSearchService;
+        this.columnarSearchService = columnarSearchService;
+        this.secondLevelCache = secondLevelCache;
+        this.existenceFilters = existenceFilters;
     }
 
     // CREATE
+    @BatchedWrite
     public Movie createMovie(Movie movie) {
-        if (movieRepository.existsByTitleAndReleaseYear(movie.getTitle(), movie.getReleaseYear())) {
+        if (existenceFilters.movieExists(movie.getTitle(), movie.getReleaseYear(),
+                () -> movieRepository.existsByTitleAndReleaseYear(movie.getTitle(), movie.getReleaseYear()))) {
             throw new InvalidRequestException("Movie with title '" + movie.getTitle() + 
                 "' and release year '" + movie.getReleaseYear() + "' already exists");
         }
@@ -54,10 +105,18 @@ public class MovieService {
         Long nextId = findNextAvailableId();
         movie.setId(nextId);
 
+        catalogVersion.changed();
         cacheService.remove("all_movies");
         cacheService.remove("all_movies_cached");
-        
-        return movieRepository.save(movie);
+
+        Movie savedMovie = movieRepository.save(movie);
+        existenceFilters.movieSaved(savedMovie.getId(), savedMovie.getTitle(), savedMovie.getReleaseYear());
+        suggestionService.save(SuggestionService.MOVIE, savedMovie.getId(), savedMovie.getTitle(), 0);
+        catalogAggregates.movieCreated(savedMovie.getId(), savedMovie.getReleaseYear());
+        facetSearchService.movieCreated(savedMovie.getId(), savedMovie.getReleaseYear(), savedMovie.getDuration());
+        columnarSearchService.movieSaved(savedMovie.getId(), savedMovie.getTitle(),
+            savedMovie.getReleaseYear(), savedMovie.getDuration());
+        return savedMovie;
     }
 
     // Find next available ID for SQLite
@@ -69,6 +128,7 @@ public class MovieService {
         return 1L;
     }
 
+    @BatchedWrite
     public Movie createMovieWithRelations(Movie movie, List<Long> genreIds, List<Long> actorIds) {
         Movie savedMovie = createMovie(movie);
         
@@ -87,12 +147,12 @@ public class MovieService {
     // READ
     @Transactional(readOnly = true)
     public List<Movie> getAllMovies() {
-        return movieRepository.findAll();
+        return withRelations(movieRepository.findAll());
     }
 
     @Transactional(readOnly = true)
     public Page<Movie> getAllMovies(Pageable pageable) {
-        return movieRepository.findAll(pageable);
+        return withRelations(movieRepository.findAll(pageable));
     }
 
     @Transactional(readOnly = true)
@@ -149,37 +209,105 @@ public class MovieService {
     // FILTERING AND SEARCH - FIXED METHOD NAMES
     @Transactional(readOnly = true)
     public Page<Movie> getMoviesByGenreId(Long genreId, Pageable pageable) {
-        if (!genreRepository.existsById(genreId)) {
+        if (!genreDictionary.contains(genreId)) {
             throw new ResourceNotFoundException("Genre not found with id: " + genreId);
         }
-        return movieRepository.findByGenresId(genreId, pageable);
+        return withRelations(movieRepository.findByGenresId(genreId, pageable));
     }
 
     @Transactional(readOnly = true)
     public Page<Movie> getMoviesByActorId(Long actorId, Pageable pageable) {
-        if (!actorRepository.existsById(actorId)) {
+        if (!existenceFilters.actorExists(actorId, () -> actorRepository.existsById(actorId))) {
             throw new ResourceNotFoundException("Actor not found with id: " + actorId);
         }
-        return movieRepository.findByActorsId(actorId, pageable);
+        return withRelations(movieRepository.findByActorsId(actorId, pageable));
     }
 
     @Transactional(readOnly = true)
     public Page<Movie> getMoviesByReleaseYear(Integer releaseYear, Pageable pageable) {
-        return movieRepository.findByReleaseYear(releaseYear, pageable);
+        return withRelations(movieRepository.findByReleaseYear(releaseYear, pageable));
     }
 
     @Transactional(readOnly = true)
     public Page<Movie> searchMoviesByTitle(String title, Pageable pageable) {
-        return movieRepository.findByTitleContainingIgnoreCase(title, pageable);
+        // Ranked full-text lookup; short terms or a missing FTS5 module fall back to LIKE
+        Optional<Page<Long>> rankedIds = fullTextSearchService.searchMovieIds(title, pageable);
+        if (rankedIds.isEmpty()) {
+            return withRelations(movieRepository.findByTitleContainingIgnoreCase(title, pageable));
+        }
+        if (!rankedIds.get().hasContent()) {
+            return Page.empty(pageable);
+        }
+        List<Movie> movies = movieRepository.findByIdIn(rankedIds.get().getContent());
+        return withRelations(FullTextSearchService.inRankOrder(rankedIds.get(), movies, Movie::getId));
     }
 
+    // Matching ids come from the in-memory columns; SQLite only loads the page's movies
     @Transactional(readOnly = true)
     public Page<Movie> advancedSearch(String title, Integer minYear, Integer maxYear, 
                                     Integer minDuration, Integer maxDuration, Pageable pageable) {
-        return movieRepository.findByAdvancedSearch(title, minYear, maxYear, minDuration, maxDuration, pageable);
+        Optional<Page<Long>> ids = columnarSearchService.searchMovieIds(
+            title, minYear, maxYear, minDuration, maxDuration, pageable);
+        if (ids.isEmpty()) {
+            return withRelations(movieRepository.findByAdvancedSearch(title, minYear, maxYear, minDuration, maxDuration, pageable));
+        }
+        if (!ids.get().hasContent()) {
+            return new PageImpl<>(List.of(), pageable, ids.get().getTotalElements());
+        }
+        List<Movie> movies = movieRepository.findByIdIn(ids.get().getContent());
+        return withRelations(FullTextSearchService.inRankOrder(ids.get(), movies, Movie::getId));
+    }
+
+    // Ids and facet counts come from the facet index; only the page's movies are loaded
+    @Transactional(readOnly = true)
+    public FacetResult<Movie> facetSearch(FacetQuery query, Pageable pageable) {
+        FacetResult<Long> matches = facetSearchService.search(query, pageable);
+        if (!matches.results().hasContent()) {
+            return matches.withResults(new PageImpl<>(List.of(), pageable, matches.results().getTotalElements()));
+        }
+        List<Movie> movies = movieRepository.findByIdIn(matches.results().getContent());
+        return matches.withResults(withRelations(
+            FullTextSearchService.inRankOrder(matches.results(), movies, Movie::getId)));
+    }
+
+    // READ-ONLY PROJECTIONS
+    @Transactional(readOnly = true)
+    public Page<MovieResponse> getMovieSummaries(Pageable pageable) {
+        return withRelationNames(movieRepository.findAllSummaries(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<MovieResponse> searchMovieSummariesByTitle(String title, Pageable pageable) {
+        return withRelationNames(movieRepository.findSummariesByTitle(title, pageable));
+    }
+
+    // Fills genre and actor names of a page of summaries with a single grouped query
+    private Page<MovieResponse> withRelationNames(Page<MovieResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<Long, MovieResponse> byId = new HashMap<>();
+        for (MovieResponse summary : summaries) {
+            summary.setGenres(new ArrayList<>());
+            summary.setActors(new ArrayList<>());
+            byId.put(summary.getId(), summary);
+        }
+
+        for (RelationNamesView row : movieRepository.findRelationNamesByMovieIds(new ArrayList<>(byId.keySet()))) {
+            MovieResponse summary = byId.get(row.getMovieId());
+            List<String> names = Arrays.asList(row.getNames().split(RelationNamesView.NAME_SEPARATOR));
+            if ("G".equals(row.getKind())) {
+                summary.setGenres(names);
+            } else {
+                summary.setActors(names);
+            }
+        }
+        return summaries;
     }
 
     // UPDATE
+    @BatchedWrite
     public Movie updateMovie(Long id, Movie movieDetails) {
         Movie movie = getMovieById(id);
         
@@ -190,127 +318,230 @@ public class MovieService {
             Integer newYear = movieDetails.getReleaseYear() != null ? 
                 movieDetails.getReleaseYear() : movie.getReleaseYear();
             
-            if (movieRepository.existsByTitleAndReleaseYear(newTitle, newYear)) {
+            if (existenceFilters.movieExists(newTitle, newYear,
+                    () -> movieRepository.existsByTitleAndReleaseYear(newTitle, newYear))) {
                 throw new InvalidRequestException("Movie with title '" + newTitle + 
                     "' and release year '" + newYear + "' already exists");
             }
         }
 
+        facetSearchService.movieChanged(id, movie.getReleaseYear(), movie.getDuration(),
+            movieDetails.getReleaseYear() != null ? movieDetails.getReleaseYear() : movie.getReleaseYear(),
+            movieDetails.getDuration() != null ? movieDetails.getDuration() : movie.getDuration());
+
         if (movieDetails.getTitle() != null) {
             movie.setTitle(movieDetails.getTitle());
         }
         if (movieDetails.getReleaseYear() != null) {
+            catalogAggregates.releaseYearChanged(movie.getReleaseYear(), movieDetails.getReleaseYear());
             movie.setReleaseYear(movieDetails.getReleaseYear());
         }
         if (movieDetails.getDuration() != null) {
             movie.setDuration(movieDetails.getDuration());
         }
 
+        catalogVersion.changed();
         cacheService.remove("all_movies");
         cacheService.remove("all_movies_cached");
         cacheService.remove("movie_" + id);
-        
-        return movieRepository.save(movie);
+
+        Movie savedMovie = movieRepository.save(movie);
+        existenceFilters.movieSaved(id, savedMovie.getTitle(), savedMovie.getReleaseYear());
+        suggestionService.save(SuggestionService.MOVIE, id, savedMovie.getTitle(), savedMovie.getActors().size());
+        columnarSearchService.movieSaved(id, savedMovie.getTitle(), savedMovie.getReleaseYear(), savedMovie.getDuration());
+        return savedMovie;
     }
 
     // RELATIONSHIP MANAGEMENT
+    // Links are written to the join tables directly (see MovieRepository); the genre's or
+    // actor's inverse collection, which holds every one of its movies, is never loaded.
+    @BatchedWrite
     public Movie addGenresToMovie(Long movieId, List<Long> genreIds) {
-        Movie movie = getMovieById(movieId);
-        List<Genre> genres = genreRepository.findByIdIn(genreIds);
+        getMovieById(movieId);
+        List<Genre> genres = genreDictionary.findByIds(genreIds);
         
         if (genres.size() != genreIds.size()) {
             throw new ResourceNotFoundException("Some genres not found");
         }
         
+        Set<Long> linked = new HashSet<>(movieRepository.findGenreIdsByMovieId(movieId));
+        List<Long> added = new ArrayList<>();
         for (Genre genre : genres) {
-            movie.addGenre(genre);
+            if (linked.add(genre.getId())) {
+                added.add(genre.getId());
+                suggestionService.adjustPopularity(SuggestionService.GENRE, genre.getId(), 1);
+            }
         }
+        if (!added.isEmpty()) {
+            movieRepository.insertGenreLinks(movieId, added);
+        }
+        catalogAggregates.genresLinked(movieId, added, 1);
+        facetSearchService.genresLinked(movieId, added, true);
         
-        cacheService.remove("movie_" + movieId);
-        
-        return movieRepository.save(movie);
+        return relinked(movieId, !added.isEmpty());
     }
 
+    @BatchedWrite
     public Movie removeGenresFromMovie(Long movieId, List<Long> genreIds) {
-        Movie movie = getMovieById(movieId);
-        List<Genre> genres = genreRepository.findByIdIn(genreIds);
-        
-        for (Genre genre : genres) {
-            movie.removeGenre(genre);
+        getMovieById(movieId);
+        
+        Set<Long> linked = new HashSet<>(movieRepository.findGenreIdsByMovieId(movieId));
+        List<Long> removed = new ArrayList<>();
+        for (Long genreId : genreIds) {
+            if (linked.remove(genreId)) {
+                removed.add(genreId);
+                suggestionService.adjustPopularity(SuggestionService.GENRE, genreId, -1);
+            }
         }
+        if (!removed.isEmpty()) {
+            movieRepository.deleteGenreLinks(movieId, removed);
+        }
+        catalogAggregates.genresLinked(movieId, removed, -1);
+        facetSearchService.genresLinked(movieId, removed, false);
         
-        cacheService.remove("movie_" + movieId);
-        
-        return movieRepository.save(movie);
+        return relinked(movieId, !removed.isEmpty());
     }
 
+    @BatchedWrite
     public Movie addActorsToMovie(Long movieId, List<Long> actorIds) {
-        Movie movie = getMovieById(movieId);
+        getMovieById(movieId);
         List<Actor> actors = actorRepository.findByIdIn(actorIds);
         
         if (actors.size() != actorIds.size()) {
             throw new ResourceNotFoundException("Some actors not found");
         }
         
+        Set<Long> linked = new HashSet<>(movieRepository.findActorIdsByMovieId(movieId));
+        List<Long> added = new ArrayList<>();
         for (Actor actor : actors) {
-            movie.addActor(actor);
+            if (linked.add(actor.getId())) {
+                added.add(actor.getId());
+                suggestionService.adjustPopularity(SuggestionService.ACTOR, actor.getId(), 1);
+                suggestionService.adjustPopularity(SuggestionService.MOVIE, movieId, 1);
+            }
         }
+        if (!added.isEmpty()) {
+            movieRepository.insertActorLinks(movieId, added);
+        }
+        catalogAggregates.actorsLinked(movieId, added.size());
+        facetSearchService.actorsLinked(movieId, added, true);
         
-        cacheService.remove("movie_" + movieId);
-        
-        return movieRepository.save(movie);
+        return relinked(movieId, !added.isEmpty());
     }
 
+    @BatchedWrite
     public Movie removeActorsFromMovie(Long movieId, List<Long> actorIds) {
-        Movie movie = getMovieById(movieId);
-        List<Actor> actors = actorRepository.findByIdIn(actorIds);
-        
-        for (Actor actor : actors) {
-            movie.removeActor(actor);
+        getMovieById(movieId);
+        
+        Set<Long> linked = new HashSet<>(movieRepository.findActorIdsByMovieId(movieId));
+        List<Long> removed = new ArrayList<>();
+        for (Long actorId : actorIds) {
+            if (linked.remove(actorId)) {
+                removed.add(actorId);
+                suggestionService.adjustPopularity(SuggestionService.ACTOR, actorId, -1);
+                suggestionService.adjustPopularity(SuggestionService.MOVIE, movieId, -1);
+            }
         }
+        if (!removed.isEmpty()) {
+            movieRepository.deleteActorLinks(movieId, removed);
+        }
+        catalogAggregates.actorsLinked(movieId, -removed.size());
+        facetSearchService.actorsLinked(movieId, removed, false);
         
-        cacheService.remove("movie_" + movieId);
-        
-        return movieRepository.save(movie);
+        return relinked(movieId, !removed.isEmpty());
     }
 
+    // Replaces the movie's genres and/or actors (null leaves that side alone). Only the
+    // difference is written: one DELETE for the ids no longer wanted and one INSERT for
+    // the new ones, so adding one actor to a large cast is a single insert.
+    @BatchedWrite
     public Movie updateMovieRelations(Long movieId, List<Long> genreIds, List<Long> actorIds) {
-        Movie movie = getMovieById(movieId);
+        getMovieById(movieId);
+        boolean genresChanged = false;
+        boolean castChanged = false;
         
         if (genreIds != null) {
-            movie.getGenres().clear();
-            List<Genre> genres = genreRepository.findByIdIn(genreIds);
-            if (genres.size() != genreIds.size()) {
+            if (genreDictionary.findByIds(genreIds).size() != genreIds.size()) {
                 throw new ResourceNotFoundException("Some genres not found");
             }
-            for (Genre genre : genres) {
-                movie.addGenre(genre);
+            Set<Long> removed = new HashSet<>(movieRepository.findGenreIdsByMovieId(movieId));
+            Set<Long> added = new LinkedHashSet<>(genreIds);
+            diff(removed, added);
+            if (!removed.isEmpty()) {
+                movieRepository.deleteGenreLinks(movieId, removed);
+                removed.forEach(genreId -> suggestionService.adjustPopularity(SuggestionService.GENRE, genreId, -1));
+            }
+            if (!added.isEmpty()) {
+                movieRepository.insertGenreLinks(movieId, added);
+                added.forEach(genreId -> suggestionService.adjustPopularity(SuggestionService.GENRE, genreId, 1));
             }
+            catalogAggregates.genresLinked(movieId, removed, -1);
+            catalogAggregates.genresLinked(movieId, added, 1);
+            facetSearchService.genresLinked(movieId, removed, false);
+            facetSearchService.genresLinked(movieId, added, true);
+            genresChanged = !removed.isEmpty() || !added.isEmpty();
         }
         
         if (actorIds != null) {
-            movie.getActors().clear();
-            List<Actor> actors = actorRepository.findByIdIn(actorIds);
-            if (actors.size() != actorIds.size()) {
+            if (actorRepository.findByIdIn(actorIds).size() != actorIds.size()) {
                 throw new ResourceNotFoundException("Some actors not found");
             }
-            for (Actor actor : actors) {
-                movie.addActor(actor);
+            Set<Long> removed = new HashSet<>(movieRepository.findActorIdsByMovieId(movieId));
+            Set<Long> added = new LinkedHashSet<>(actorIds);
+            diff(removed, added);
+            if (!removed.isEmpty()) {
+                movieRepository.deleteActorLinks(movieId, removed);
+                removed.forEach(actorId -> suggestionService.adjustPopularity(SuggestionService.ACTOR, actorId, -1));
             }
+            if (!added.isEmpty()) {
+                movieRepository.insertActorLinks(movieId, added);
+                added.forEach(actorId -> suggestionService.adjustPopularity(SuggestionService.ACTOR, actorId, 1));
+            }
+            catalogAggregates.actorsLinked(movieId, added.size() - removed.size());
+            facetSearchService.actorsLinked(movieId, removed, false);
+            facetSearchService.actorsLinked(movieId, added, true);
+            castChanged = !removed.isEmpty() || !added.isEmpty();
         }
-        
-        cacheService.remove("movie_" + movieId);
-        
-        return movieRepository.save(movie);
+
+        Movie savedMovie = relinked(movieId, genresChanged || castChanged);
+        if (castChanged) {
+            suggestionService.save(SuggestionService.MOVIE, movieId, savedMovie.getTitle(), savedMovie.getActors().size());
+        }
+        return savedMovie;
+    }
+
+    // Turns current into the ids to unlink and wanted into the ids to link
+    private static void diff(Set<Long> current, Set<Long> wanted) {
+        Set<Long> kept = new HashSet<>(current);
+        kept.retainAll(wanted);
+        current.removeAll(kept);
+        wanted.removeAll(kept);
+    }
+
+    // Reloads a movie after its links were written; a change moves its version (for
+    // ETags and optimistic locking) and evicts every cached copy holding its relations
+    private Movie relinked(Long movieId, boolean changed) {
+        if (changed) {
+            movieRepository.incrementVersion(movieId);
+            secondLevelCache.evictLinks(movieId);
+            catalogVersion.changed();
+            cacheService.remove("all_movies");
+            cacheService.remove("all_movies_cached");
+            cacheService.remove("movie_" + movieId);
+        }
+        return getMovieById(movieId);
     }
 
     // DELETE
+    @BatchedWrite
     public void deleteMovie(Long id, boolean force) {
         Movie movie = getMovieById(id);
+        List<Long> genreIds = movieRepository.findGenreIdsByMovieId(id);
+        List<Long> actorIds = movieRepository.findActorIdsByMovieId(id);
         
-        if (!force && (!movie.getGenres().isEmpty() || !movie.getActors().isEmpty())) {
-            int genreCount = movie.getGenres().size();
-            int actorCount = movie.getActors().size();
+        if (!force && (!genreIds.isEmpty() || !actorIds.isEmpty())) {
+            int genreCount = genreIds.size();
+            int actorCount = actorIds.size();
             throw new InvalidRequestException(
                 "Cannot delete movie '" + movie.getTitle() + 
                 "' because it has " + genreCount + " genre" + (genreCount > 1 ? "s" : "") +
@@ -319,58 +550,94 @@ public class MovieService {
             );
         }
 
-        if (force) {
-            List<Genre> genres = List.copyOf(movie.getGenres());
-            for (Genre genre : genres) {
-                movie.removeGenre(genre);
-            }
-            
-            List<Actor> actors = List.copyOf(movie.getActors());
-            for (Actor actor : actors) {
-                movie.removeActor(actor);
-            }
+        // removeGenre/removeActor would load every movie of each genre and actor
+        if (!genreIds.isEmpty()) {
+            movieRepository.deleteAllGenreLinks(id);
+            suggestionService.adjustPopularity(SuggestionService.GENRE, genreIds, -1);
+        }
+        if (!actorIds.isEmpty()) {
+            movieRepository.deleteAllActorLinks(id);
+            suggestionService.adjustPopularity(SuggestionService.ACTOR, actorIds, -1);
         }
 
+        catalogVersion.changed();
         cacheService.remove("all_movies");
         cacheService.remove("all_movies_cached");
         cacheService.remove("movie_" + id);
+        secondLevelCache.evictLinks(id);
         
-        movieRepository.delete(movie);
+        movieRepository.deleteById(id);
+        suggestionService.remove(SuggestionService.MOVIE, id);
+        catalogAggregates.movieDeleted(id, movie.getReleaseYear(), genreIds);
+        facetSearchService.movieDeleted(id, movie.getReleaseYear(), movie.getDuration(), genreIds, actorIds);
+        columnarSearchService.movieDeleted(id);
     }
 
+    @BatchedWrite
     public void deleteMovie(Long id) {
         deleteMovie(id, false);
     }
 
     // STATISTICS AND UTILITY
+    // Counts come from CatalogAggregates; only the movies of the requested page are read
     @Transactional(readOnly = true)
     public Page<Object[]> getAllMoviesWithActorCount(Pageable pageable) {
-        return movieRepository.findAllWithActorCount(pageable);
+        Page<Movie> movies = withRelations(movieRepository.findAll(
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("title"))));
+        return movies.map(movie -> new Object[] {movie, catalogAggregates.actorsInMovie(movie.getId())});
+    }
+
+    @Transactional(readOnly = true)
+    public List<Object[]> getMovieCountsByReleaseYear() {
+        return catalogAggregates.moviesPerReleaseYear();
     }
 
     @Transactional(readOnly = true)
     public Page<Movie> getLatestMovies(Pageable pageable) {
-        return movieRepository.findByOrderByReleaseYearDesc(pageable);
+        return withRelations(movieRepository.findByOrderByReleaseYearDesc(pageable));
     }
 
     @Transactional(readOnly = true)
     public List<Movie> getMoviesByDurationRange(Integer minDuration, Integer maxDuration) {
-        return movieRepository.findByDurationBetween(minDuration, maxDuration);
+        return withRelations(movieRepository.findByDurationBetween(minDuration, maxDuration));
     }
 
     @Transactional(readOnly = true)
     public List<Movie> getMoviesWithNoGenres() {
-        return movieRepository.findMoviesWithNoGenres();
+        return findWithRelations(catalogAggregates.moviesWithoutGenres());
     }
 
     @Transactional(readOnly = true)
     public List<Movie> getMoviesWithNoActors() {
-        return movieRepository.findMoviesWithNoActors();
+        return findWithRelations(catalogAggregates.moviesWithoutActors());
+    }
+
+    // Movies by id in id order, loaded in slices that stay under SQLite's bind parameter limit
+    private List<Movie> findWithRelations(List<Long> ids) {
+        List<Movie> movies = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_SLICE) {
+            movies.addAll(movieRepository.findByIdIn(ids.subList(from, Math.min(ids.size(), from + ID_SLICE))));
+        }
+        movies.sort(Comparator.comparing(Movie::getId));
+        return withRelations(movies);
     }
 
     // VALIDATION
     @Transactional(readOnly = true)
     public boolean movieExists(Long id) {
-        return movieRepository.existsById(id);
+        return existenceFilters.movieExists(id, () -> movieRepository.existsById(id));
+    }
+
+    /**
+     * Initializes genres and actors of every movie while the transaction is still open.
+     * Thanks to @BatchSize on Movie, the first access loads the collections of the whole
+     * page with one IN-list query per relation instead of two queries per movie.
+     */
+    private <T extends Iterable<Movie>> T withRelations(T movies) {
+        for (Movie movie : movies) {
+            Hibernate.initialize(movie.getGenres());
+            Hibernate.initialize(movie.getActors());
+        }
+        return movies;
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.moviesapi.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs writes the client does not want to wait for, such as forced deletes of a
+ * genre linked to hundreds of thousands of movies.
+ *
+ * The write is handed to Spring's applicationTaskExecutor and the request
+ * returns 202 right away. It still goes through the service proxy, so it gets
+ * its own transaction (or joins a write batch) exactly as a synchronous call
+ * would. Failures are logged and counted, see {@link #getStats()}.
+ */
+@Component
+public class BackgroundWrites {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundWrites.class);
+
+    private final AsyncTaskExecutor executor;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile String lastFailure;
+
+    public BackgroundWrites(@Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    public void submit(String description, Runnable write) {
+        submitted.incrementAndGet();
+        executor.execute(() -> {
+            running.incrementAndGet();
+            try {
+                write.run();
+                completed.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                lastFailure = description + ": " + e.getMessage();
+                log.warn("Background write '{}' failed", description, e);
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("running", running.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("lastFailure", lastFailure);
+        return stats;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.moviesapi.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional service method whose writes may be group-committed with
+ * other concurrent writes by the {@link WriteBatcher}.
+ *
+ * The method keeps its own @Transactional semantics: when batching is disabled,
+ * or the caller already runs in a transaction, it is invoked directly.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchedWrite {
+}
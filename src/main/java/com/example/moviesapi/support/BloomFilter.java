@@ -0,0 +1,116 @@
+package com.example.moviesapi.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over 64-bit key hashes: mightContain is false only for keys
+ * that were never added, and true for a small share of those.
+ *
+ * Sized from the expected number of keys n and the target false-positive rate p:
+ * -n ln p / ln²2 bits and (bits / n) ln 2 hash functions. The k bit positions of
+ * a key are h1 + i * h2, both derived from its one hash (Kirsch and
+ * Mitzenmacher). Bits are set with compare-and-set, so concurrent adds never
+ * lose each other's bits and neither adds nor lookups take a lock.
+ *
+ * Keys cannot be removed: a deleted key stays a positive until the filter is
+ * built again.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    public BloomFilter(long expectedKeys, double falsePositiveRate) {
+        long keys = Math.max(1, expectedKeys);
+        double ln2 = Math.log(2);
+        long wanted = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (wanted + 63) >>> 6)));
+        this.bits = (long) words.length() << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / keys * ln2));
+    }
+
+    public void add(long hash) {
+        long step = step(hash);
+        for (int i = 0; i < hashes; i++) {
+            set(index(hash + i * step));
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        long step = step(hash);
+        for (int i = 0; i < hashes; i++) {
+            long index = index(hash + i * step);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public int hashes() {
+        return hashes;
+    }
+
+    public double fillRatio() {
+        return (double) bitsSet.get() / bits;
+    }
+
+    /**
+     * The chance that a key never added tests positive, from the share of bits
+     * set so far.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashes);
+    }
+
+    private void set(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        bitsSet.incrementAndGet();
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bits;
+    }
+
+    // Odd, so the k positions differ whenever bits is a power of two
+    private static long step(long hash) {
+        return mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    // SECTION: key hashes
+
+    public static long hash(long key) {
+        return mix(key);
+    }
+
+    // 64-bit FNV-1a over the chars, then mixed so every bit depends on every char
+    public static long hash(CharSequence key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3's 64-bit finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
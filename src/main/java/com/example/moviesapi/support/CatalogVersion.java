@@ -0,0 +1,55 @@
+package com.example.moviesapi.support;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Catalog-wide change counter.
+ *
+ * Every service write calls {@link #changed()}; the counter moves once the
+ * write's transaction has committed. Together with an epoch taken at startup it
+ * forms a tag that identifies the state of the whole catalog, so any response
+ * built from it can be revalidated by comparing tags alone, without a query.
+ *
+ * The counter lives in memory, like the other caches, and assumes this instance
+ * is the only writer of the database. A restart starts a new epoch, which
+ * invalidates every tag handed out before it.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private volatile Snapshot current = new Snapshot(epoch + ".0", 0, wholeSecond(System.currentTimeMillis()));
+
+    public Snapshot current() {
+        return current;
+    }
+
+    /**
+     * Records a change of the catalog, effective when the current transaction
+     * commits (right away outside a transaction).
+     */
+    public void changed() {
+        AfterCommit.run(this::advance);
+    }
+
+    private synchronized void advance() {
+        Snapshot previous = current;
+        long count = previous.count() + 1;
+        // Last-Modified has one-second resolution; keep it strictly increasing so a
+        // client's If-Modified-Since never matches a state it has not seen
+        long lastModified = Math.max(wholeSecond(System.currentTimeMillis()), previous.lastModified() + 1000);
+        current = new Snapshot(epoch + "." + count, count, lastModified);
+    }
+
+    private static long wholeSecond(long millis) {
+        return millis / 1000 * 1000;
+    }
+
+    /**
+     * Immutable state of the counter: the tag ("epoch.count") and the time of
+     * the change in whole seconds for Last-Modified.
+     */
+    public record Snapshot(String tag, long count, long lastModified) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.moviesapi.support;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Bloom filter that grows with its keys (a scalable Bloom filter, Almeida et
+ * al.): a stack of {@link BloomFilter} layers, of which only the newest takes
+ * keys.
+ *
+ * Once the newest layer holds the keys it was sized for, a layer twice as large
+ * with half the false-positive rate is added on top. A lookup asks every layer,
+ * so the rates add up; the first layer gets half the target rate and each later
+ * one half of the one before, which keeps the sum under the target however many
+ * layers there are.
+ *
+ * Keys that already test positive are not added again, so re-saving a row does
+ * not use up capacity. Lookups take no lock; adding a layer does.
+ */
+public class LayeredBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private volatile Layer[] layers;
+
+    public LayeredBloomFilter(long expectedKeys, double falsePositiveRate) {
+        this.layers = new Layer[] { new Layer(Math.max(1, expectedKeys), falsePositiveRate * (1 - TIGHTENING_RATIO)) };
+    }
+
+    public void add(long hash) {
+        Layer[] current = layers;
+        for (Layer layer : current) {
+            if (layer.filter.mightContain(hash)) {
+                return;
+            }
+        }
+        Layer newest = current[current.length - 1];
+        newest.filter.add(hash);
+        if (newest.keys.incrementAndGet() == newest.capacity) {
+            grow(current);
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        for (Layer layer : layers) {
+            if (layer.filter.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int layers() {
+        return layers.length;
+    }
+
+    public long bits() {
+        long bits = 0;
+        for (Layer layer : layers) {
+            bits += layer.filter.bits();
+        }
+        return bits;
+    }
+
+    public long keys() {
+        long keys = 0;
+        for (Layer layer : layers) {
+            keys += layer.keys.get();
+        }
+        return keys;
+    }
+
+    // Of the layer taking keys; the older ones are full
+    public double fillRatio() {
+        Layer[] current = layers;
+        return current[current.length - 1].filter.fillRatio();
+    }
+
+    /**
+     * The chance that a key never added tests positive in at least one layer,
+     * from the share of bits set in each.
+     */
+    public double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Layer layer : layers) {
+            allNegative *= 1 - layer.filter.expectedFalsePositiveRate();
+        }
+        return 1 - allNegative;
+    }
+
+    // Adds that race past the capacity land in the full layer, a few keys over its size
+    private synchronized void grow(Layer[] full) {
+        if (layers != full) {
+            return;
+        }
+        Layer newest = full[full.length - 1];
+        Layer[] grown = Arrays.copyOf(full, full.length + 1);
+        grown[full.length] = new Layer(newest.capacity * GROWTH_FACTOR, newest.falsePositiveRate * TIGHTENING_RATIO);
+        layers = grown;
+    }
+
+    private static final class Layer {
+        final BloomFilter filter;
+        final long capacity;
+        final double falsePositiveRate;
+        final AtomicLong keys = new AtomicLong();
+
+        Layer(long capacity, double falsePositiveRate) {
+            this.filter = new BloomFilter(capacity, falsePositiveRate);
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.moviesapi.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Group commit for small writes.
+ *
+ * Calls to {@link BatchedWrite} methods are queued and executed by a single
+ * thread. The thread takes the first pending call, collects whatever else
+ * arrives within max-delay (up to max-batch-size calls), and runs them all in
+ * one transaction; each method's own REQUIRED transaction joins it. Every
+ * caller is released once that transaction commits, so N concurrent writes
+ * cost one commit (one fsync) instead of N.
+ *
+ * If any call in a batch fails, the batch is rolled back and each call is
+ * rerun in its own transaction, so one bad request never fails its neighbours
+ * and every caller gets the outcome it would have had without batching.
+ *
+ * On shutdown the worker commits the batch it was collecting and whatever is
+ * still queued before it exits, and calls arriving after that run directly in
+ * their own transaction.
+ */
+@Component
+public class WriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBatcher.class);
+
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private Thread worker;
+    private volatile boolean stopped;
+
+    public WriteBatcher(PlatformTransactionManager transactionManager,
+                        @Value("${app.writes.batching.enabled:false}") boolean enabled,
+                        @Value("${app.writes.batching.max-delay-ms:5}") long maxDelayMillis,
+                        @Value("${app.writes.batching.max-batch-size:64}") int maxBatchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // A platform thread even when requests run on virtual threads: it holds the writer
+        // connection for whole batches, inside sqlite-jdbc's synchronized native calls
+        worker = new Thread(this::drain, "write-batcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Set before the interrupt, so a submit that sees the worker gone also sees this
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+            // Let the queued writes commit while the data source is still open
+            worker.join(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS));
+        }
+    }
+
+    /**
+     * Runs the intercepted method through the batch pipeline and returns its
+     * result, or throws its exception, once the batch it ran in has committed.
+     */
+    public Object submit(MethodInvocation invocation) throws Throwable {
+        if (!enabled || worker == null || stopped || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        PendingWrite write = new PendingWrite((ProxyMethodInvocation) invocation);
+        queue.add(write);
+        // Stopped in the meantime: the worker may have drained the queue for the last time.
+        // If the write is still queued, nobody else will take it.
+        if (stopped && queue.remove(write)) {
+            return invocation.proceed();
+        }
+        try {
+            return write.result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long batchCount = batches.get();
+        long writeCount = writes.get();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("batches", batchCount);
+        stats.put("writes", writeCount);
+        stats.put("averageBatchSize", batchCount == 0 ? 0.0 : (double) writeCount / batchCount);
+        stats.put("rolledBackBatches", fallbacks.get());
+        stats.put("queued", queue.size());
+        return stats;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingWrite next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Writes already taken from the queue stay in the batch for the final commit below
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                log.error("Write batch failed unexpectedly", t);
+                batch.forEach(write -> write.result.completeExceptionally(t));
+                batch.clear();
+            }
+        }
+
+        // Writes queued or collected before stop() still run; clear the interrupt so their JDBC
+        // calls are not cut short
+        Thread.interrupted();
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            try {
+                commit(batch);
+            } catch (Throwable t) {
+                log.error("Final write batch failed unexpectedly", t);
+                batch.forEach(write -> write.result.completeExceptionally(t));
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        batches.incrementAndGet();
+        writes.addAndGet(batch.size());
+
+        if (batch.size() > 1) {
+            Object[] results = new Object[batch.size()];
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        results[i] = proceed(batch.get(i));
+                    }
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result.complete(results[i]);
+                }
+                return;
+            } catch (RuntimeException e) {
+                // The whole batch is rolled back; fall through and give every write its own transaction
+                fallbacks.incrementAndGet();
+                log.debug("Write batch of {} rolled back, retrying individually: {}", batch.size(), e.toString());
+            }
+        }
+
+        for (PendingWrite write : batch) {
+            try {
+                write.result.complete(transactionTemplate.execute(status -> proceed(write)));
+            } catch (Throwable t) {
+                write.result.completeExceptionally(t instanceof BatchedCallException ? t.getCause() : t);
+            }
+        }
+    }
+
+    // Each attempt needs a fresh copy, a MethodInvocation can only be proceeded once
+    private static Object proceed(PendingWrite write) {
+        try {
+            return write.invocation.invocableClone().proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new BatchedCallException(t);
+        }
+    }
+
+    private static final class PendingWrite {
+        final ProxyMethodInvocation invocation;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        PendingWrite(ProxyMethodInvocation invocation) {
+            this.invocation = invocation;
+        }
+    }
+
+    // Carries a checked exception out of the transaction callback
+    private static final class BatchedCallException extends RuntimeException {
+        BatchedCallException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -15,21 +15,22 @@ INSERT INTO genres (name) VALUES ('Romance');
 INSERT INTO genres (name) VALUES ('Adventure');
 
 -- Insert Actors WITHOUT explicit IDs - FIXED: Use exact column names
-INSERT INTO actors (name, birth_date) VALUES ('Tom Hanks', '1956-07-09');
-INSERT INTO actors (name, birth_date) VALUES ('Meryl Streep', '1949-06-22');
-INSERT INTO actors (name, birth_date) VALUES ('Leonardo DiCaprio', '1974-11-11');
-INSERT INTO actors (name, birth_date) VALUES ('Jennifer Lawrence', '1990-08-15');
-INSERT INTO actors (name, birth_date) VALUES ('Denzel Washington', '1954-12-28');
-INSERT INTO actors (name, birth_date) VALUES ('Emma Watson', '1990-04-15');
-INSERT INTO actors (name, birth_date) VALUES ('Robert Downey Jr.', '1965-04-04');
-INSERT INTO actors (name, birth_date) VALUES ('Scarlett Johansson', '1984-11-22');
-INSERT INTO actors (name, birth_date) VALUES ('Brad Pitt', '1963-12-18');
-INSERT INTO actors (name, birth_date) VALUES ('Angelina Jolie', '1975-06-04');
-INSERT INTO actors (name, birth_date) VALUES ('Morgan Freeman', '1937-06-01');
-INSERT INTO actors (name, birth_date) VALUES ('Samuel L. Jackson', '1948-12-21');
-INSERT INTO actors (name, birth_date) VALUES ('Natalie Portman', '1981-06-09');
-INSERT INTO actors (name, birth_date) VALUES ('Chris Hemsworth', '1983-08-11');
-INSERT INTO actors (name, birth_date) VALUES ('Chris Evans', '1981-06-13');
+-- birth_date holds days since 1970-01-01 (see V4__actor_birth_date_epoch_day.sql)
+INSERT INTO actors (name, birth_date) VALUES ('Tom Hanks', unixepoch('1956-07-09') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Meryl Streep', unixepoch('1949-06-22') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Leonardo DiCaprio', unixepoch('1974-11-11') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Jennifer Lawrence', unixepoch('1990-08-15') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Denzel Washington', unixepoch('1954-12-28') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Emma Watson', unixepoch('1990-04-15') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Robert Downey Jr.', unixepoch('1965-04-04') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Scarlett Johansson', unixepoch('1984-11-22') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Brad Pitt', unixepoch('1963-12-18') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Angelina Jolie', unixepoch('1975-06-04') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Morgan Freeman', unixepoch('1937-06-01') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Samuel L. Jackson', unixepoch('1948-12-21') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Natalie Portman', unixepoch('1981-06-09') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Chris Hemsworth', unixepoch('1983-08-11') / 86400);
+INSERT INTO actors (name, birth_date) VALUES ('Chris Evans', unixepoch('1981-06-13') / 86400);
 
 -- Insert Movies WITHOUT explicit IDs - FIXED: Use exact column names
 INSERT INTO movies (title, release_year, duration) VALUES ('The Shawshank Redemption', 1994, 142);
@@ -0,0 +1,36 @@
+-- Baseline schema, identical to what Hibernate generates from the entities.
+-- IF NOT EXISTS lets an existing database created with ddl-auto=create be
+-- brought under migration control without losing data.
+
+CREATE TABLE IF NOT EXISTS movies (
+    duration integer not null,
+    release_year integer not null,
+    id integer,
+    title varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS actors (
+    id integer,
+    birth_date VARCHAR(255) not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS genres (
+    id integer,
+    name varchar(100) not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS movie_genres (
+    genre_id INTEGER not null,
+    movie_id bigint not null,
+    primary key (genre_id, movie_id)
+);
+
+CREATE TABLE IF NOT EXISTS movie_actors (
+    actor_id bigint not null,
+    movie_id bigint not null,
+    primary key (actor_id, movie_id)
+);
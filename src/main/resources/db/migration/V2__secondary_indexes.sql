@@ -0,0 +1,35 @@
+-- Secondary indexes for the repository query shapes.
+-- Every SQLite index implicitly ends with the rowid (= id on all entity tables),
+-- so an index on (col) also covers queries that only read col and id.
+-- See docs/query-plans.md for the plans before and after.
+
+-- existsByTitleAndReleaseYear, findByTitle, findByTitleIn, findDuplicateMovies,
+-- ORDER BY title; also enforces the title/year uniqueness the service checks
+CREATE UNIQUE INDEX IF NOT EXISTS ux_movies_title_release_year ON movies (title, release_year);
+
+-- findByReleaseYear[Between], findByOrderByReleaseYear*, countMoviesByReleaseYear
+CREATE INDEX IF NOT EXISTS idx_movies_release_year ON movies (release_year);
+
+-- findByDurationBetween / GreaterThanEqual / LessThanEqual
+CREATE INDEX IF NOT EXISTS idx_movies_duration ON movies (duration);
+
+-- existsByNameAndBirthDate
+CREATE INDEX IF NOT EXISTS idx_actors_name_birth_date ON actors (name, birth_date);
+
+-- findByBirthDateBetween, findBySearchCriteria date bounds
+CREATE INDEX IF NOT EXISTS idx_actors_birth_date ON actors (birth_date);
+
+-- findByNameIgnoreCase (Hibernate renders upper(name) = upper(?))
+CREATE INDEX IF NOT EXISTS idx_actors_upper_name ON actors (upper(name));
+
+-- findByName, existsByName, findByNames, ORDER BY name
+CREATE UNIQUE INDEX IF NOT EXISTS ux_genres_name ON genres (name);
+
+-- findByNameIgnoreCase, existsByNameIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_genres_upper_name ON genres (upper(name));
+
+-- The join table primary keys are (genre_id, movie_id) and (actor_id, movie_id),
+-- which serve findByGenresId / findByActorsId. Loading the genres and actors of
+-- a movie goes the other way and needs movie_id first.
+CREATE INDEX IF NOT EXISTS idx_movie_genres_movie ON movie_genres (movie_id, genre_id);
+CREATE INDEX IF NOT EXISTS idx_movie_actors_movie ON movie_actors (movie_id, actor_id);
@@ -0,0 +1,7 @@
+-- Row versions for conditional GET (ETag) and optimistic locking.
+-- Hibernate increments version on every update of the row, and of a movie when its
+-- genre or actor links change. Existing rows and rows inserted outside JPA start at 0.
+
+ALTER TABLE movies ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE actors ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version bigint NOT NULL DEFAULT 0;
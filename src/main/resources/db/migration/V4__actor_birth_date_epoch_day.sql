@@ -0,0 +1,33 @@
+-- Actor birth dates as INTEGER days since 1970-01-01 (LocalDate.toEpochDay) instead of
+-- 'yyyy-MM-dd' text. Range predicates compare integers through idx_actors_birth_date,
+-- and LocalDateAttributeConverter no longer parses a string for every row read.
+--
+-- SQLite cannot change a column's type, so the table is rebuilt and the existing rows
+-- are converted in the same transaction. Values that are already integers are kept.
+-- Dropping the table also drops the actors_fts triggers; FullTextSearchService
+-- recreates them and rebuilds that index on the next start.
+
+CREATE TABLE actors_epoch_day (
+    id integer,
+    birth_date INTEGER not null,
+    name varchar(255) not null,
+    version bigint NOT NULL DEFAULT 0,
+    primary key (id)
+);
+
+INSERT INTO actors_epoch_day (id, birth_date, name, version)
+SELECT id,
+       CASE WHEN typeof(birth_date) = 'integer' THEN birth_date ELSE unixepoch(birth_date) / 86400 END,
+       name,
+       version
+FROM actors;
+
+DROP TABLE actors;
+
+ALTER TABLE actors_epoch_day RENAME TO actors;
+
+CREATE INDEX IF NOT EXISTS idx_actors_name_birth_date ON actors (name, birth_date);
+
+CREATE INDEX IF NOT EXISTS idx_actors_birth_date ON actors (birth_date);
+
+CREATE INDEX IF NOT EXISTS idx_actors_upper_name ON actors (upper(name));